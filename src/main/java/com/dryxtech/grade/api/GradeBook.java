@@ -58,6 +58,16 @@ public interface GradeBook<T extends Grade> {
      */
     Collection<T> erase(Predicate<T> search);
 
+    /**
+     * Remove grades from the managed group, without collecting the grades that were removed.
+     *
+     * @param search conditions to control what is removed
+     * @return count of grades that were removed
+     */
+    default int eraseCount(Predicate<T> search) {
+        return erase(search).size();
+    }
+
     /**
      * Remove all grades from the managed group.
      *
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.api;
+
+/**
+ * This interface represents a listener of changes to a grade book.
+ *
+ * @param <T> Grade Type
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public interface GradeBookListener<T extends Grade> {
+
+    /**
+     * Called after a grade was added to the grade book.
+     *
+     * @param grade that was added
+     */
+    void recorded(T grade);
+
+    /**
+     * Called after a grade was removed from the grade book.
+     *
+     * @param grade that was removed
+     */
+    void erased(T grade);
+}
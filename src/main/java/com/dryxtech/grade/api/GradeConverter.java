@@ -16,6 +16,13 @@
 
 package com.dryxtech.grade.api;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 /**
  * This interface represents a grade converter.
  *
@@ -33,4 +40,55 @@ public interface GradeConverter {
      * @throws GradeException if conversion fails
      */
     GradeValue convert(GradeValue gradeValue, String targetGradingSystemId) throws GradeException;
+
+    /**
+     * Converter of a collection of grade values to a different grading system.
+     *
+     * @param gradeValues           Original grade values
+     * @param targetGradingSystemId Target grading system
+     * @return grade values for target grading system in iteration order of original grade values
+     * @throws GradeException if any conversion fails
+     */
+    default List<GradeValue> convertAll(Collection<? extends GradeValue> gradeValues, String targetGradingSystemId) throws GradeException {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+
+        List<GradeValue> converted = new ArrayList<>(gradeValues.size());
+        for (GradeValue gradeValue : gradeValues) {
+            converted.add(convert(gradeValue, targetGradingSystemId));
+        }
+        return converted;
+    }
+
+    /**
+     * Converter of an array of grade values to a different grading system.
+     *
+     * @param gradeValues           Original grade values
+     * @param targetGradingSystemId Target grading system
+     * @return grade values for target grading system in the same order as original grade values
+     * @throws GradeException if any conversion fails
+     */
+    default GradeValue[] convertAll(GradeValue[] gradeValues, String targetGradingSystemId) throws GradeException {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+
+        GradeValue[] converted = new GradeValue[gradeValues.length];
+        for (int i = 0; i < gradeValues.length; i++) {
+            converted[i] = convert(gradeValues[i], targetGradingSystemId);
+        }
+        return converted;
+    }
+
+    /**
+     * Converter of a stream of grade values to a different grading system. The stream is consumed.
+     *
+     * @param gradeValues           Original grade values
+     * @param targetGradingSystemId Target grading system
+     * @return grade values for target grading system in encounter order of original grade values
+     * @throws GradeException if any conversion fails
+     */
+    default List<GradeValue> convertAll(Stream<? extends GradeValue> gradeValues, String targetGradingSystemId) throws GradeException {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+
+        List<GradeValue> gradeValueList = gradeValues.collect(Collectors.toList());
+        return convertAll(gradeValueList, targetGradingSystemId);
+    }
 }
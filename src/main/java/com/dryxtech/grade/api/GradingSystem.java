@@ -110,6 +110,18 @@ public interface GradingSystem {
      */
     Optional<PerformanceLevel> getPerformanceLevel(BigDecimal numericValue);
 
+    /**
+     * Method to get the grading system range based on numeric value input.
+     *
+     * @param numericValue a valid numeric value within a range
+     * @return optional containing range; otherwise empty if not found
+     */
+    default Optional<GradeValueRange> findRange(BigDecimal numericValue) {
+        return getRanges().stream()
+                .filter(range -> range.inRange(numericValue))
+                .findFirst();
+    }
+
     /**
      * Getter of all grade value ranges for the grading system.
      *
@@ -58,6 +58,16 @@ public interface TestBook<T extends Test> {
      */
     Collection<T> erase(Predicate<T> search);
 
+    /**
+     * Remove tests from the managed group, without collecting the tests that were removed.
+     *
+     * @param search conditions to control what is removed
+     * @return count of tests that were removed
+     */
+    default int eraseCount(Predicate<T> search) {
+        return erase(search).size();
+    }
+
     /**
      * Remove all tests from the managed group.
      *
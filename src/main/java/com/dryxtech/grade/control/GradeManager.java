@@ -24,6 +24,7 @@ import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.Grader;
 import com.dryxtech.grade.api.GradingSystem;
 import com.dryxtech.grade.api.ManagedGrade;
+import com.dryxtech.grade.grader.GradeCurve;
 import com.dryxtech.grade.grader.GradeValueAverageGrader;
 import com.dryxtech.grade.grader.GradeWeightedAverageGrader;
 import com.dryxtech.grade.grader.GraderFactory;
@@ -31,17 +32,20 @@ import com.dryxtech.grade.grader.NumberAverageGrader;
 import com.dryxtech.grade.grader.NumberGrader;
 import com.dryxtech.grade.model.BasicManagedGrade;
 import com.dryxtech.grade.model.GradeBuilder;
+import com.dryxtech.grade.model.GradeDistribution;
 import com.dryxtech.grade.model.GradeRank;
 import com.dryxtech.grade.model.GradeReferenceBuilder;
 import com.dryxtech.grade.model.GradeValueBuilder;
 import com.dryxtech.grade.model.GradeValueRangeBuilder;
 import com.dryxtech.grade.model.GradingSystemBuilder;
+import com.dryxtech.grade.model.RankMode;
 import com.dryxtech.grade.system.GradeConverterNotFoundException;
 import com.dryxtech.grade.system.GradingSystemNotFoundException;
 import com.dryxtech.grade.system.GradingSystemRegistry;
 import com.dryxtech.grade.system.ZGradingSystem;
 import com.dryxtech.grade.util.GradeFileUtil;
 import com.dryxtech.grade.util.GradeMathUtil;
+import com.dryxtech.grade.util.GradeRanker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -73,7 +77,7 @@ public final class GradeManager {
     protected final Map<String, Object> managementInfo;
 
     // default grading system graders
-    private Grader<Number> defaultGrader;
+    private NumberGrader defaultGrader;
     private Grader<Collection<Number>> defaultAverageGrader;
     private Grader<Collection<GradeValue>> defaultRollupGrader;
     private Grader<Collection<Grade>> defaultWeightedRollupGrader;
@@ -129,7 +133,7 @@ public final class GradeManager {
 
         registerGradingSystem(GradeConstants.DEFAULT_GRADING_SYSTEM_ID, gradingSystem);
 
-        defaultGrader = new NumberGrader(gradingSystem);
+        defaultGrader = new NumberGrader(gradingSystem, gradingSystemRegistry);
         defaultAverageGrader = new NumberAverageGrader(gradingSystem, gradingSystemRegistry);
         defaultRollupGrader = new GradeValueAverageGrader(gradingSystem, gradingSystemRegistry);
         defaultWeightedRollupGrader = new GradeWeightedAverageGrader(gradingSystem, gradingSystemRegistry);
@@ -351,6 +355,113 @@ public final class GradeManager {
         return graderFactory.createNumberGrader(gradingSystemId).grade(value);
     }
 
+    /**
+     * Curves a cohort of grades (by z-score, percentile or linear rescaling) and grades the curved values using
+     * grading system id argument
+     *
+     * @param grades cohort of grades to curve
+     * @param gradingSystemId grading system to grade curved values with
+     * @param curve curve of raw values to curved values
+     * @return new curved grades, each with a reference to its original grade
+     * @throws GradeException on any failure during the curving process
+     */
+    public Collection<Grade> curve(final Collection<? extends Grade> grades, final String gradingSystemId,
+                                   final GradeCurve curve) throws GradeException {
+        return graderFactory.createNumberGrader(gradingSystemId).curve(grades, curve);
+    }
+
+    /**
+     * Grades a double using default grading system
+     *
+     * @param value numeric value to grade
+     * @return grade value
+     * @throws GradeException on any failure during the grading process
+     */
+    public GradeValue gradeDouble(final double value) throws GradeException {
+        return defaultGrader.gradeDouble(value);
+    }
+
+    /**
+     * Grades a long using default grading system
+     *
+     * @param value numeric value to grade
+     * @return grade value
+     * @throws GradeException on any failure during the grading process
+     */
+    public GradeValue gradeLong(final long value) throws GradeException {
+        return defaultGrader.gradeLong(value);
+    }
+
+    /**
+     * Grades an array of doubles using default grading system
+     *
+     * @param values numeric values to grade
+     * @return grade values in the same order as values
+     * @throws GradeException on any failure during the grading process
+     */
+    public GradeValue[] gradeDoubles(final double[] values) throws GradeException {
+        return defaultGrader.gradeDoubles(values);
+    }
+
+    /**
+     * Grades an array of longs using default grading system
+     *
+     * @param values numeric values to grade
+     * @return grade values in the same order as values
+     * @throws GradeException on any failure during the grading process
+     */
+    public GradeValue[] gradeLongs(final long[] values) throws GradeException {
+        return defaultGrader.gradeLongs(values);
+    }
+
+    /**
+     * Grades a double using grading system id argument
+     *
+     * @param value numeric value to grade
+     * @param gradingSystemId grading system to use
+     * @return grade value
+     * @throws GradeException on any failure during the grading process
+     */
+    public GradeValue gradeDouble(final double value, final String gradingSystemId) throws GradeException {
+        return graderFactory.createNumberGrader(gradingSystemId).gradeDouble(value);
+    }
+
+    /**
+     * Grades a long using grading system id argument
+     *
+     * @param value numeric value to grade
+     * @param gradingSystemId grading system to use
+     * @return grade value
+     * @throws GradeException on any failure during the grading process
+     */
+    public GradeValue gradeLong(final long value, final String gradingSystemId) throws GradeException {
+        return graderFactory.createNumberGrader(gradingSystemId).gradeLong(value);
+    }
+
+    /**
+     * Grades an array of doubles using grading system id argument
+     *
+     * @param values numeric values to grade
+     * @param gradingSystemId grading system to use
+     * @return grade values in the same order as values
+     * @throws GradeException on any failure during the grading process
+     */
+    public GradeValue[] gradeDoubles(final double[] values, final String gradingSystemId) throws GradeException {
+        return graderFactory.createNumberGrader(gradingSystemId).gradeDoubles(values);
+    }
+
+    /**
+     * Grades an array of longs using grading system id argument
+     *
+     * @param values numeric values to grade
+     * @param gradingSystemId grading system to use
+     * @return grade values in the same order as values
+     * @throws GradeException on any failure during the grading process
+     */
+    public GradeValue[] gradeLongs(final long[] values, final String gradingSystemId) throws GradeException {
+        return graderFactory.createNumberGrader(gradingSystemId).gradeLongs(values);
+    }
+
     /**
      * Grades a collection of numbers using grading system id argument
      * The average of the numbers is determined and evaluated with grading system
@@ -415,6 +526,72 @@ public final class GradeManager {
         return GradeMathUtil.rankGradesLowToHigh(grades);
     }
 
+    /**
+     * Ranks a collection of grades from highest to lowest numeric value.
+     *
+     * @param grades collection of grades to rank
+     * @param mode   how grades of same numeric value share rank numbers (dense, competition or percentile)
+     * @return sorted collection of ranked grades from highest to lowest
+     */
+    public Collection<GradeRank> rankHiToLow(final Collection<? extends Grade> grades, final RankMode mode) {
+        return GradeMathUtil.rankGradesHiToLow(grades, mode);
+    }
+
+    /**
+     * Ranks a collection of grades from lowest to highest numeric value.
+     *
+     * @param grades collection of grades to rank
+     * @param mode   how grades of same numeric value share rank numbers (dense, competition or percentile)
+     * @return sorted collection of ranked grades from lowest to highest
+     */
+    public Collection<GradeRank> rankLowToHigh(final Collection<? extends Grade> grades, final RankMode mode) {
+        return GradeMathUtil.rankGradesLowToHigh(grades, mode);
+    }
+
+    /**
+     * Ranks a window of a collection of grades from highest to lowest numeric value (e.g. the top 100, or a page of
+     * a leaderboard), without ranking the entire collection.
+     *
+     * @param grades collection of grades to rank
+     * @param mode   how grades of same numeric value share rank numbers (dense, competition or percentile)
+     * @param offset position of first ranked grade of window (0 is the highest grade)
+     * @param limit  maximum number of ranked grades of window
+     * @return sorted collection of ranked grades of window from highest to lowest
+     */
+    public Collection<GradeRank> rankHiToLow(final Collection<? extends Grade> grades, final RankMode mode,
+                                             final int offset, final int limit) {
+        return GradeRanker.rankWindow(grades, offset, limit, true, mode);
+    }
+
+    /**
+     * Ranks a window of a collection of grades from lowest to highest numeric value, without ranking the entire
+     * collection.
+     *
+     * @param grades collection of grades to rank
+     * @param mode   how grades of same numeric value share rank numbers (dense, competition or percentile)
+     * @param offset position of first ranked grade of window (0 is the lowest grade)
+     * @param limit  maximum number of ranked grades of window
+     * @return sorted collection of ranked grades of window from lowest to highest
+     */
+    public Collection<GradeRank> rankLowToHigh(final Collection<? extends Grade> grades, final RankMode mode,
+                                               final int offset, final int limit) {
+        return GradeRanker.rankWindow(grades, offset, limit, false, mode);
+    }
+
+    /**
+     * Gets the rank of a single grade among a collection of grades, without ranking the entire collection.
+     *
+     * @param grades  collection of grades to rank grade among
+     * @param grade   grade to rank
+     * @param hiToLow true if highest numeric value is ranked first; otherwise lowest numeric value is ranked first
+     * @param mode    how grades of same numeric value share rank numbers (dense, competition or percentile)
+     * @return rank of grade
+     */
+    public long rankOf(final Collection<? extends Grade> grades, final Grade grade, final boolean hiToLow,
+                       final RankMode mode) {
+        return GradeRanker.rankOf(grades, grade, hiToLow, mode);
+    }
+
     /**
      * Calculate the distribution of grades per each distinct grade textValue
      * Note: order of the resulting map values is hi-to-low based on grade numeric value
@@ -426,6 +603,19 @@ public final class GradeManager {
         return GradeMathUtil.calculateGradeDistribution(grades);
     }
 
+    /**
+     * Calculate the distribution of grades per each range of a grading system
+     *
+     * @param grades          collection of grades
+     * @param gradingSystemId grading system to use
+     * @return grade distribution with counts per range and performance level
+     * @throws GradeException if grading system is not registered or its ranges cannot be indexed
+     */
+    public GradeDistribution calculateDistribution(final Collection<? extends GradeValue> grades,
+                                                   final String gradingSystemId) throws GradeException {
+        return graderFactory.createNumberGrader(gradingSystemId).distribute(grades);
+    }
+
     /**
      * Getter of grade value builder
      *
@@ -588,4 +778,18 @@ public final class GradeManager {
         return gradingSystemRegistry.lookupConverter(fromGradingSystem, toGradingSystem)
                 .orElseThrow(() -> new GradeConverterNotFoundException(fromGradingSystem, toGradingSystem));
     }
+
+    /**
+     * Resolve a grade converter from registry, chaining registered converters through intermediate
+     * grading systems if no direct converter is registered
+     *
+     * @param fromGradingSystem system to convert from
+     * @param toGradingSystem system to convert to
+     * @return grade converter
+     * @throws GradeConverterNotFoundException if no route of grade converters exists
+     */
+    public GradeConverter resolveConverter(final String fromGradingSystem, final String toGradingSystem) throws GradeConverterNotFoundException {
+        return gradingSystemRegistry.resolveConverter(fromGradingSystem, toGradingSystem)
+                .orElseThrow(() -> new GradeConverterNotFoundException(fromGradingSystem, toGradingSystem));
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.api.GradeBookListener;
+import com.dryxtech.grade.util.GradeStatistics;
+import com.dryxtech.grade.util.QuantileSketch;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * A live view of the statistics of the grades of a grade book per grading system, which is updated as grades are
+ * recorded (see {@link GradeStatistics}), in bounded memory per grading system regardless of grade count.
+ * Streaming statistics cannot take a value back out, so when a grade is erased the statistics of its grading system
+ * are recomputed from the grade book the next time they are read.
+ * <p>
+ * The view is guarded by the lock of its grade book, so it is consistent with the grades of the book.
+ *
+ * @param <T> Grade Type
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public class GradeStatisticsView<T extends Grade> implements GradeBookListener<T> {
+
+    private final ObservableGradeBook<T> gradeBook;
+    private final int sketchSize;
+    private final Map<String, GradeStatistics> statistics = new HashMap<>();
+    private final Set<String> staleGradingSystems = new HashSet<>();
+
+    private GradeStatisticsView(final ObservableGradeBook<T> gradeBook, final int sketchSize) {
+        Objects.requireNonNull(gradeBook, "gradebook must not be null");
+
+        if (sketchSize < QuantileSketch.MIN_K) {
+            throw new IllegalArgumentException("sketch size must be at least " + QuantileSketch.MIN_K);
+        }
+
+        this.gradeBook = gradeBook;
+        this.sketchSize = sketchSize;
+    }
+
+    /**
+     * Creates a view of the statistics of the grades of a grade book.
+     *
+     * @param gradeBook grade book to follow
+     * @param <T>       Grade Type
+     * @return view of grades already in grade book
+     */
+    public static <T extends Grade> GradeStatisticsView<T> attach(final ObservableGradeBook<T> gradeBook) {
+        return attach(gradeBook, QuantileSketch.DEFAULT_K);
+    }
+
+    /**
+     * Creates a view of the statistics of the grades of a grade book.
+     *
+     * @param gradeBook  grade book to follow
+     * @param sketchSize k of quantile sketches (see {@link QuantileSketch#QuantileSketch(int)})
+     * @param <T>        Grade Type
+     * @return view of grades already in grade book
+     */
+    public static <T extends Grade> GradeStatisticsView<T> attach(final ObservableGradeBook<T> gradeBook,
+                                                                  final int sketchSize) {
+        GradeStatisticsView<T> view = new GradeStatisticsView<>(gradeBook, sketchSize);
+        gradeBook.addListener(view);
+        return view;
+    }
+
+    @Override
+    public void recorded(final T grade) {
+        synchronized (gradeBook) {
+            String gradingSystem = grade.getGradingSystem();
+            if (!staleGradingSystems.contains(gradingSystem)) {
+                statistics.computeIfAbsent(gradingSystem, key -> new GradeStatistics(sketchSize)).addGradeValue(grade);
+            }
+        }
+    }
+
+    @Override
+    public void erased(final T grade) {
+        synchronized (gradeBook) {
+            if (statistics.containsKey(grade.getGradingSystem())) {
+                staleGradingSystems.add(grade.getGradingSystem());
+            }
+        }
+    }
+
+    /**
+     * Getter of the statistics of the grades of a grading system.
+     *
+     * @param gradingSystem id of grading system
+     * @return copy of statistics; otherwise empty if there are no grades of grading system
+     */
+    public Optional<GradeStatistics> getStatistics(final String gradingSystem) {
+        synchronized (gradeBook) {
+            if (staleGradingSystems.remove(gradingSystem)) {
+                recompute(gradingSystem);
+            }
+
+            GradeStatistics gradingSystemStatistics = statistics.get(gradingSystem);
+            return Optional.ofNullable(gradingSystemStatistics).map(GradeStatistics::copy);
+        }
+    }
+
+    /**
+     * Getter of the grading systems with statistics.
+     *
+     * @return sorted ids of grading systems
+     */
+    public Set<String> getGradingSystems() {
+        synchronized (gradeBook) {
+            for (String gradingSystem : staleGradingSystems) {
+                recompute(gradingSystem);
+            }
+            staleGradingSystems.clear();
+            return Collections.unmodifiableSet(new TreeSet<>(statistics.keySet()));
+        }
+    }
+
+    private void recompute(final String gradingSystem) {
+
+        GradeStatistics gradingSystemStatistics = new GradeStatistics(sketchSize);
+        for (T grade : gradeBook.find(grade -> gradingSystem.equals(grade.getGradingSystem()))) {
+            gradingSystemStatistics.addGradeValue(grade);
+        }
+
+        if (gradingSystemStatistics.getCount() == 0) {
+            statistics.remove(gradingSystem);
+        } else {
+            statistics.put(gradingSystem, gradingSystemStatistics);
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (gradeBook) {
+            return String.format("GradeStatisticsView{gradingSystems=%s}", new TreeSet<>(statistics.keySet()));
+        }
+    }
+}
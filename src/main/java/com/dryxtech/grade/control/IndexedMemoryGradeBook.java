@@ -0,0 +1,545 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.api.GradeBook;
+import com.dryxtech.grade.api.GradeReference;
+import com.dryxtech.grade.api.ManagedGrade;
+import com.dryxtech.grade.util.IdentifierUtil;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A thread-safe in-memory grade book of grades keyed by id, with secondary indexes of grades by key
+ * (e.g. by the id of a student reference), so looking up grades by id or by an indexed key does not scan the book.
+ * Grades are indexed by grading system, type and text value, and by any extension, management or reference keys
+ * that are added (see {@link #addIndex(String, Function)}). Grades must have a unique id.
+ * Grades are also ordered by timestamp, in the book and within each key of an index, so finding the grades of a time
+ * range (optionally of an indexed key) is O(log n + k) for k grades found.
+ * <p>
+ * Readers share a read lock and writers take a write lock, so lookups run concurrently.
+ *
+ * @param <T> Grade Type
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public class IndexedMemoryGradeBook<T extends Grade> implements GradeBook<T> {
+
+    public static final String GRADING_SYSTEM_INDEX = "gradingSystem";
+    public static final String TYPE_INDEX = "type";
+    public static final String TEXT_VALUE_INDEX = "textValue";
+    public static final String EXTENSION_INDEX_PREFIX = "extension.";
+    public static final String MANAGEMENT_INDEX_PREFIX = "management.";
+    public static final String REFERENCE_INDEX_PREFIX = "reference.";
+
+    private final String name;
+    private final int maxSizeLimit;
+    private final Map<String, T> grades = new LinkedHashMap<>();
+    private final Map<String, TimeKey> timeKeys = new HashMap<>();
+    private final NavigableMap<TimeKey, T> timeline = new TreeMap<>();
+    private final Map<String, Index<T>> indexes = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long sequence;
+
+    public IndexedMemoryGradeBook() {
+        this(null, SimpleMemoryGradeBook.DEFAULT_MAX_SIZE_LIMIT);
+    }
+
+    public IndexedMemoryGradeBook(final String name) {
+        this(name, SimpleMemoryGradeBook.DEFAULT_MAX_SIZE_LIMIT);
+    }
+
+    public IndexedMemoryGradeBook(final String name, final int maxSizeLimit) {
+
+        if (Objects.nonNull(name) && (name.trim().length() > 0)) {
+            this.name = name;
+        } else {
+            this.name = IdentifierUtil.generateIdString();
+        }
+
+        this.maxSizeLimit = maxSizeLimit;
+        indexes.put(GRADING_SYSTEM_INDEX, new Index<>(Grade::getGradingSystem));
+        indexes.put(TYPE_INDEX, new Index<>(Grade::getType));
+        indexes.put(TEXT_VALUE_INDEX, new Index<>(Grade::getTextValue));
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Method to index grades by a key, including the grades already recorded.
+     *
+     * @param indexName   name of index
+     * @param keyFunction function of the key of a grade; a null key is not indexed
+     * @return this grade book
+     * @throws IllegalArgumentException if an index of name already exists
+     */
+    public IndexedMemoryGradeBook<T> addIndex(final String indexName, final Function<? super T, ?> keyFunction) {
+        Objects.requireNonNull(indexName, "index name must not be null");
+        Objects.requireNonNull(keyFunction, "key function must not be null");
+
+        lock.writeLock().lock();
+        try {
+            if (indexes.containsKey(indexName)) {
+                throw new IllegalArgumentException("index already exists: " + indexName);
+            }
+
+            Index<T> index = new Index<>(keyFunction);
+            timeline.forEach(index::add);
+            indexes.put(indexName, index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return this;
+    }
+
+    /**
+     * Method to index grades by the value of an extension, named {@link #EXTENSION_INDEX_PREFIX} + key.
+     *
+     * @param key extension key
+     * @return this grade book
+     */
+    public IndexedMemoryGradeBook<T> addExtensionIndex(final String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        return addIndex(EXTENSION_INDEX_PREFIX + key, grade -> grade.getExtension(key).orElse(null));
+    }
+
+    /**
+     * Method to index managed grades by the value of a management key, named {@link #MANAGEMENT_INDEX_PREFIX} + key.
+     *
+     * @param key management key
+     * @return this grade book
+     */
+    public IndexedMemoryGradeBook<T> addManagementIndex(final String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        return addIndex(MANAGEMENT_INDEX_PREFIX + key, grade -> {
+            if (grade instanceof ManagedGrade && Objects.nonNull(((ManagedGrade) grade).getManagement())) {
+                return ((ManagedGrade) grade).getManagement().get(key);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Method to index grades by the id of a reference (e.g. a student or course), named
+     * {@link #REFERENCE_INDEX_PREFIX} + key.
+     *
+     * @param key reference key
+     * @return this grade book
+     */
+    public IndexedMemoryGradeBook<T> addReferenceIndex(final String key) {
+        Objects.requireNonNull(key, "key must not be null");
+        return addIndex(REFERENCE_INDEX_PREFIX + key,
+                grade -> grade.getReference(key).map(GradeReference::getId).orElse(null));
+    }
+
+    /**
+     * Getter of the names of indexes.
+     *
+     * @return sorted names of indexes
+     */
+    public Set<String> getIndexNames() {
+        lock.readLock().lock();
+        try {
+            return Collections.unmodifiableSet(new TreeSet<>(indexes.keySet()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void record(final T grade) {
+
+        Objects.requireNonNull(grade, "grade must not be null");
+        lock.writeLock().lock();
+        try {
+            if (grades.size() >= maxSizeLimit) {
+                throw new IllegalStateException("grade book current size is at max limit. cannot record additional grade.");
+            }
+
+            add(checkId(grade));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void record(final Collection<T> grades) {
+
+        Objects.requireNonNull(grades, "grades must not be null");
+        lock.writeLock().lock();
+        try {
+            if ((this.grades.size() + grades.size()) > maxSizeLimit) {
+                throw new IllegalStateException("grade book current size + input grade count would exceed max limit. cannot record additional grades.");
+            }
+
+            Set<String> ids = new HashSet<>();
+            for (T grade : grades) {
+                Objects.requireNonNull(grade, "grade must not be null");
+                if (!ids.add(checkId(grade).getId())) {
+                    throw new IllegalArgumentException("grade id is not unique: " + grade.getId());
+                }
+            }
+
+            grades.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean erase(final T grade) {
+
+        Objects.requireNonNull(grade, "grade must not be null");
+        lock.writeLock().lock();
+        try {
+            T recorded = grades.get(grade.getId());
+            if (Objects.isNull(recorded) || !recorded.equals(grade)) {
+                return false;
+            }
+
+            remove(recorded);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Collection<T> erase(final Predicate<T> search) {
+
+        Objects.requireNonNull(search, "search must not be null");
+        lock.writeLock().lock();
+        try {
+            List<T> gradesRemoved = grades.values().stream()
+                    .filter(search)
+                    .collect(Collectors.toList());
+
+            gradesRemoved.forEach(this::remove);
+            return gradesRemoved;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Collection<T> eraseAll() {
+
+        lock.writeLock().lock();
+        try {
+            List<T> gradesRemoved = new ArrayList<>(grades.values());
+            grades.clear();
+            timeKeys.clear();
+            timeline.clear();
+            indexes.values().forEach(Index::clear);
+            return gradesRemoved;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Collection<T> find(final Predicate<T> search) {
+
+        if (Objects.isNull(search)) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            return grades.values().stream()
+                    .filter(search)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Collection<T> findAll() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(grades.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find a grade by id.
+     *
+     * @param id grade id
+     * @return optional containing grade; otherwise empty if no grade of id is recorded
+     */
+    public Optional<T> findById(final String id) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(grades.get(id));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find grades by the key of an index.
+     *
+     * @param indexName name of index
+     * @param key       key of grades
+     * @return collection of grades of key in timestamp order
+     * @throws IllegalArgumentException if there is no index of name
+     */
+    public Collection<T> findBy(final String indexName, final Object key) {
+        return findBy(indexName, key, grade -> true);
+    }
+
+    /**
+     * Find grades by the key of an index, that also meet search conditions.
+     *
+     * @param indexName name of index
+     * @param key       key of grades
+     * @param search    conditions
+     * @return collection of grades of key that were found based on search
+     * @throws IllegalArgumentException if there is no index of name
+     */
+    public Collection<T> findBy(final String indexName, final Object key, final Predicate<T> search) {
+        Objects.requireNonNull(search, "search must not be null");
+
+        lock.readLock().lock();
+        try {
+            return getIndex(indexName).get(key).values().stream()
+                    .filter(search)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find grades of a time range.
+     *
+     * @param from start of time range (inclusive)
+     * @param to   end of time range (exclusive)
+     * @return collection of grades of time range in timestamp order
+     */
+    public Collection<T> findBetween(final ZonedDateTime from, final ZonedDateTime to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(range(timeline, from, to).values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find grades of a time range by the key of an index (e.g. the grades of a grading system in a term).
+     *
+     * @param indexName name of index
+     * @param key       key of grades
+     * @param from      start of time range (inclusive)
+     * @param to        end of time range (exclusive)
+     * @return collection of grades of key and time range in timestamp order
+     * @throws IllegalArgumentException if there is no index of name
+     */
+    public Collection<T> findBetween(final String indexName, final Object key, final ZonedDateTime from,
+                                     final ZonedDateTime to) {
+        Objects.requireNonNull(from, "from must not be null");
+        Objects.requireNonNull(to, "to must not be null");
+
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(range(getIndex(indexName).get(key), from, to).values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Collection<T> findByGradingSystem(final String gradingSystem) {
+        return findBy(GRADING_SYSTEM_INDEX, gradingSystem);
+    }
+
+    public Collection<T> findByType(final String type) {
+        return findBy(TYPE_INDEX, type);
+    }
+
+    public Collection<T> findByTextValue(final String textValue) {
+        return findBy(TEXT_VALUE_INDEX, textValue);
+    }
+
+    /**
+     * Getter of count of grades.
+     *
+     * @return count of grades
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return grades.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Index<T> getIndex(final String indexName) {
+
+        Index<T> index = indexes.get(indexName);
+        if (Objects.isNull(index)) {
+            throw new IllegalArgumentException("index does not exist: " + indexName);
+        }
+
+        return index;
+    }
+
+    private static <T> NavigableMap<TimeKey, T> range(final NavigableMap<TimeKey, T> grades, final ZonedDateTime from,
+                                                      final ZonedDateTime to) {
+
+        TimeKey fromKey = new TimeKey(from, Long.MIN_VALUE);
+        TimeKey toKey = new TimeKey(to, Long.MIN_VALUE);
+        if (fromKey.compareTo(toKey) >= 0) {
+            return Collections.emptyNavigableMap();
+        }
+
+        return grades.subMap(fromKey, true, toKey, false);
+    }
+
+    private T checkId(final T grade) {
+
+        if (Objects.isNull(grade.getId())) {
+            throw new IllegalArgumentException("grade id must not be null");
+        } else if (grades.containsKey(grade.getId())) {
+            throw new IllegalArgumentException("grade id is already recorded: " + grade.getId());
+        }
+
+        return grade;
+    }
+
+    private void add(final T grade) {
+        TimeKey timeKey = new TimeKey(grade.getTimestamp(), sequence++);
+        grades.put(grade.getId(), grade);
+        timeKeys.put(grade.getId(), timeKey);
+        timeline.put(timeKey, grade);
+        indexes.values().forEach(index -> index.add(timeKey, grade));
+    }
+
+    private void remove(final T grade) {
+        TimeKey timeKey = timeKeys.remove(grade.getId());
+        grades.remove(grade.getId());
+        timeline.remove(timeKey);
+        indexes.values().forEach(index -> index.remove(timeKey, grade));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IndexedMemoryGradeBook{name=%s, maxSizeLimit=%d, indexes=%s}", this.name,
+                this.maxSizeLimit, getIndexNames());
+    }
+
+    /**
+     * Position of a grade in timestamp order, where grades of the same instant (or without a timestamp, which come
+     * first) are in the order they were recorded.
+     */
+    private static final class TimeKey implements Comparable<TimeKey> {
+
+        private final long epochSecond;
+        private final int nano;
+        private final long sequence;
+
+        private TimeKey(final ZonedDateTime timestamp, final long sequence) {
+            this.epochSecond = Objects.isNull(timestamp) ? Long.MIN_VALUE : timestamp.toEpochSecond();
+            this.nano = Objects.isNull(timestamp) ? 0 : timestamp.getNano();
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(final TimeKey other) {
+
+            int result = Long.compare(epochSecond, other.epochSecond);
+            if (result == 0) {
+                result = Integer.compare(nano, other.nano);
+            }
+            if (result == 0) {
+                result = Long.compare(sequence, other.sequence);
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Grades by key, each key holding its grades in timestamp order.
+     */
+    private static final class Index<T extends Grade> {
+
+        private final Function<? super T, ?> keyFunction;
+        private final Map<Object, NavigableMap<TimeKey, T>> entries = new HashMap<>();
+
+        private Index(final Function<? super T, ?> keyFunction) {
+            this.keyFunction = keyFunction;
+        }
+
+        private void add(final TimeKey timeKey, final T grade) {
+            Object key = keyFunction.apply(grade);
+            if (Objects.nonNull(key)) {
+                entries.computeIfAbsent(key, k -> new TreeMap<>()).put(timeKey, grade);
+            }
+        }
+
+        private void remove(final TimeKey timeKey, final T grade) {
+            Object key = keyFunction.apply(grade);
+            NavigableMap<TimeKey, T> keyGrades = Objects.isNull(key) ? null : entries.get(key);
+            if (Objects.nonNull(keyGrades)) {
+                keyGrades.remove(timeKey);
+                if (keyGrades.isEmpty()) {
+                    entries.remove(key);
+                }
+            }
+        }
+
+        private NavigableMap<TimeKey, T> get(final Object key) {
+            NavigableMap<TimeKey, T> keyGrades = Objects.isNull(key) ? null : entries.get(key);
+            return Objects.isNull(keyGrades) ? Collections.emptyNavigableMap() : keyGrades;
+        }
+
+        private void clear() {
+            entries.clear();
+        }
+    }
+}
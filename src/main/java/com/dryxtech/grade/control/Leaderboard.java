@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.api.GradeBookListener;
+import com.dryxtech.grade.model.GradeRank;
+import com.dryxtech.grade.model.RankMode;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsLast;
+import static java.util.Comparator.reverseOrder;
+
+/**
+ * A leaderboard of grades that is kept up to date as grades are recorded to and erased from a grade book
+ * (see {@link #attach(ObservableGradeBook, boolean, Predicate)}).
+ * Grades are held in order statistic trees, so the rank of a grade, the grades at a window of ranks and the count
+ * of grades above or below a value are found in O(log n) (plus the size of the window) instead of ranking all
+ * grades on each query. Grades are ordered the same as {@link com.dryxtech.grade.util.GradeRanker}: by numeric
+ * value, then by timestamp, then in the order they were recorded.
+ *
+ * @param <T> Grade Type
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public class Leaderboard<T extends Grade> implements GradeBookListener<T> {
+
+    private final boolean hiToLow;
+    private final Predicate<? super T> filter;
+    private final Comparator<BigDecimal> valueOrder;
+    private final OrderStatisticTree<Entry<T>> entries;
+    private final OrderStatisticTree<BigDecimal> values;
+    private final Map<BigDecimal, int[]> valueCounts = new HashMap<>();
+    private final Map<T, Deque<Entry<T>>> entriesByGrade = new HashMap<>();
+    private long sequence;
+
+    public Leaderboard() {
+        this(true, grade -> true);
+    }
+
+    /**
+     * Constructor of a leaderboard.
+     *
+     * @param hiToLow true to rank the highest numeric value first; otherwise the lowest numeric value first
+     * @param filter  condition of grades on the leaderboard (e.g. grades of a grading system)
+     */
+    public Leaderboard(final boolean hiToLow, final Predicate<? super T> filter) {
+        Objects.requireNonNull(filter, "filter must not be null");
+
+        this.hiToLow = hiToLow;
+        this.filter = filter;
+        this.valueOrder = hiToLow ? reverseOrder() : naturalOrder();
+
+        Comparator<ZonedDateTime> timestampOrder = nullsLast(naturalOrder());
+        this.entries = new OrderStatisticTree<>(Comparator.<Entry<T>, BigDecimal>comparing(entry -> entry.value, valueOrder)
+                .thenComparing(entry -> entry.grade.getTimestamp(), timestampOrder)
+                .thenComparingLong(entry -> entry.sequence));
+        this.values = new OrderStatisticTree<>(valueOrder);
+    }
+
+    /**
+     * Creates a leaderboard of the grades of a grade book, which is updated as grades are recorded and erased.
+     *
+     * @param gradeBook grade book to follow
+     * @param hiToLow   true to rank the highest numeric value first; otherwise the lowest numeric value first
+     * @param filter    condition of grades on the leaderboard (e.g. grades of a grading system)
+     * @param <T>       Grade Type
+     * @return leaderboard of grades already in grade book
+     */
+    public static <T extends Grade> Leaderboard<T> attach(final ObservableGradeBook<T> gradeBook, final boolean hiToLow,
+                                                          final Predicate<? super T> filter) {
+        Objects.requireNonNull(gradeBook, "gradebook must not be null");
+
+        Leaderboard<T> leaderboard = new Leaderboard<>(hiToLow, filter);
+        gradeBook.addListener(leaderboard);
+        return leaderboard;
+    }
+
+    @Override
+    public synchronized void recorded(final T grade) {
+
+        if (Objects.isNull(grade) || !filter.test(grade)) {
+            return;
+        }
+
+        Objects.requireNonNull(grade.getNumericValue(), "grade numeric value must not be null");
+        Entry<T> entry = new Entry<>(grade, sequence++);
+        entries.insert(entry);
+        entriesByGrade.computeIfAbsent(grade, key -> new ArrayDeque<>()).addLast(entry);
+
+        int[] count = valueCounts.computeIfAbsent(entry.value.stripTrailingZeros(), key -> new int[1]);
+        if (count[0]++ == 0) {
+            values.insert(entry.value);
+        }
+    }
+
+    @Override
+    public synchronized void erased(final T grade) {
+
+        Deque<Entry<T>> gradeEntries = Objects.isNull(grade) ? null : entriesByGrade.get(grade);
+        if (Objects.isNull(gradeEntries)) {
+            return;
+        }
+
+        // a grade book erases the first equal grade recorded
+        Entry<T> entry = gradeEntries.removeFirst();
+        if (gradeEntries.isEmpty()) {
+            entriesByGrade.remove(grade);
+        }
+        entries.remove(entry);
+
+        BigDecimal valueKey = entry.value.stripTrailingZeros();
+        if (--valueCounts.get(valueKey)[0] == 0) {
+            valueCounts.remove(valueKey);
+            values.remove(entry.value);
+        }
+    }
+
+    public boolean isHiToLow() {
+        return hiToLow;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized boolean contains(final T grade) {
+        return Objects.nonNull(grade) && entriesByGrade.containsKey(grade);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        values.clear();
+        valueCounts.clear();
+        entriesByGrade.clear();
+    }
+
+    /**
+     * Method to get the rank of a grade.
+     *
+     * @param grade grade to rank (counted as one of the grades if not on the leaderboard)
+     * @param mode  how grades of the same numeric value share ranks
+     * @return rank of grade
+     */
+    public synchronized long rankOf(final T grade, final RankMode mode) {
+        Objects.requireNonNull(grade, "grade must not be null");
+        Objects.requireNonNull(mode, "rank mode must not be null");
+
+        BigDecimal numericValue = grade.getNumericValue();
+        switch (mode) {
+            case DENSE:
+                return values.countPrefix(value -> valueOrder.compare(value, numericValue) < 0) + 1L;
+            case PERCENTILE:
+                long size = entries.size() + (entriesByGrade.containsKey(grade) ? 0 : 1);
+                return percentile(countBetter(numericValue) + 1L, size);
+            default:
+                return countBetter(numericValue) + 1L;
+        }
+    }
+
+    /**
+     * Method to rank the top grades.
+     *
+     * @param k    maximum number of top grades
+     * @param mode how grades of the same numeric value share ranks
+     * @return sorted list of at most k ranked grades
+     */
+    public List<GradeRank> top(final int k, final RankMode mode) {
+        return rankWindow(0, k, mode);
+    }
+
+    /**
+     * Method to rank a window of the grades (e.g. a page of the leaderboard).
+     *
+     * @param offset position of first ranked grade of window (0 is the top grade)
+     * @param limit  maximum number of ranked grades of window
+     * @param mode   how grades of the same numeric value share ranks
+     * @return sorted list of at most limit ranked grades
+     * @throws IllegalArgumentException if offset or limit is negative
+     */
+    public synchronized List<GradeRank> rankWindow(final int offset, final int limit, final RankMode mode) {
+        Objects.requireNonNull(mode, "rank mode must not be null");
+
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset and limit must not be negative");
+        }
+
+        int size = entries.size();
+        int end = (int) Math.min((long) offset + limit, size);
+        if (offset >= end) {
+            return Collections.emptyList();
+        }
+
+        List<GradeRank> rankedGrades = new ArrayList<>(end - offset);
+        BigDecimal lastValue = null;
+        long denseRank = 0;
+        long competitionRank = 0;
+
+        for (int i = offset; i < end; i++) {
+            Entry<T> entry = entries.get(i);
+            if (Objects.isNull(lastValue)) {
+                BigDecimal value = entry.value;
+                competitionRank = countBetter(value) + 1L;
+                denseRank = values.countPrefix(other -> valueOrder.compare(other, value) < 0) + 1L;
+            } else if (entry.value.compareTo(lastValue) != 0) {
+                competitionRank = i + 1L;
+                denseRank++;
+            }
+            lastValue = entry.value;
+
+            long rank;
+            switch (mode) {
+                case COMPETITION:
+                    rank = competitionRank;
+                    break;
+                case PERCENTILE:
+                    rank = percentile(competitionRank, size);
+                    break;
+                default:
+                    rank = denseRank;
+            }
+            rankedGrades.add(new GradeRank(entry.grade, rank));
+        }
+
+        return rankedGrades;
+    }
+
+    /**
+     * Method to get a grade by its position on the leaderboard.
+     *
+     * @param index position of grade (0 is the top grade)
+     * @return grade at position
+     * @throws IndexOutOfBoundsException if index is not a position of the leaderboard
+     */
+    public synchronized T get(final int index) {
+        return entries.get(index).grade;
+    }
+
+    /**
+     * Method to count the grades of a numeric value greater than a value.
+     *
+     * @param numericValue value to compare with
+     * @return count of grades above value
+     */
+    public synchronized int countAbove(final BigDecimal numericValue) {
+        Objects.requireNonNull(numericValue, "numeric value must not be null");
+
+        return hiToLow ? entries.countPrefix(entry -> entry.value.compareTo(numericValue) > 0)
+                : entries.size() - entries.countPrefix(entry -> entry.value.compareTo(numericValue) <= 0);
+    }
+
+    /**
+     * Method to count the grades of a numeric value less than a value.
+     *
+     * @param numericValue value to compare with
+     * @return count of grades below value
+     */
+    public synchronized int countBelow(final BigDecimal numericValue) {
+        Objects.requireNonNull(numericValue, "numeric value must not be null");
+
+        return hiToLow ? entries.size() - entries.countPrefix(entry -> entry.value.compareTo(numericValue) >= 0)
+                : entries.countPrefix(entry -> entry.value.compareTo(numericValue) < 0);
+    }
+
+    private int countBetter(final BigDecimal numericValue) {
+        return entries.countPrefix(entry -> valueOrder.compare(entry.value, numericValue) < 0);
+    }
+
+    private static long percentile(final long competitionRank, final long size) {
+        return (competitionRank * 100 + size - 1) / size;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("Leaderboard{hiToLow=%s, size=%d}", hiToLow, entries.size());
+    }
+
+    private static final class Entry<T extends Grade> {
+
+        private final T grade;
+        private final BigDecimal value;
+        private final long sequence;
+
+        private Entry(final T grade, final long sequence) {
+            this.grade = grade;
+            this.value = grade.getNumericValue();
+            this.sequence = sequence;
+        }
+    }
+}
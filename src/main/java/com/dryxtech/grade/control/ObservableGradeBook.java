@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.api.GradeBook;
+import com.dryxtech.grade.api.GradeBookListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * A grade book that notifies listeners of the grades recorded to and erased from another grade book.
+ * Changes and their notifications are made under the lock of this grade book, so listeners see changes in the
+ * order they were made. Listeners should be quick, as they hold up other changes.
+ *
+ * @param <T> Grade Type
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public class ObservableGradeBook<T extends Grade> implements GradeBook<T> {
+
+    private final GradeBook<T> gradeBook;
+    private final List<GradeBookListener<? super T>> listeners = new CopyOnWriteArrayList<>();
+
+    public ObservableGradeBook(final GradeBook<T> gradeBook) {
+        Objects.requireNonNull(gradeBook, "gradebook must not be null");
+        this.gradeBook = gradeBook;
+    }
+
+    public GradeBook<T> getGradeBook() {
+        return gradeBook;
+    }
+
+    /**
+     * Method to add a listener, which is first told of every grade already in the grade book.
+     *
+     * @param listener listener to add
+     */
+    public synchronized void addListener(final GradeBookListener<? super T> listener) {
+        Objects.requireNonNull(listener, "listener must not be null");
+
+        for (T grade : gradeBook.findAll()) {
+            listener.recorded(grade);
+        }
+        listeners.add(listener);
+    }
+
+    public synchronized boolean removeListener(final GradeBookListener<? super T> listener) {
+        return listeners.remove(listener);
+    }
+
+    @Override
+    public synchronized void record(final T grade) {
+
+        gradeBook.record(grade);
+        for (GradeBookListener<? super T> listener : listeners) {
+            listener.recorded(grade);
+        }
+    }
+
+    @Override
+    public synchronized void record(final Collection<T> grades) {
+
+        gradeBook.record(grades);
+        for (T grade : grades) {
+            for (GradeBookListener<? super T> listener : listeners) {
+                listener.recorded(grade);
+            }
+        }
+    }
+
+    @Override
+    public synchronized boolean erase(final T grade) {
+
+        boolean erased = gradeBook.erase(grade);
+        if (erased) {
+            for (GradeBookListener<? super T> listener : listeners) {
+                listener.erased(grade);
+            }
+        }
+
+        return erased;
+    }
+
+    @Override
+    public synchronized Collection<T> erase(final Predicate<T> search) {
+        return notifyErased(gradeBook.erase(search));
+    }
+
+    @Override
+    public synchronized Collection<T> eraseAll() {
+        return notifyErased(gradeBook.eraseAll());
+    }
+
+    @Override
+    public Collection<T> find(final Predicate<T> search) {
+        return gradeBook.find(search);
+    }
+
+    @Override
+    public Collection<T> findAll() {
+        return gradeBook.findAll();
+    }
+
+    private Collection<T> notifyErased(final Collection<T> grades) {
+
+        for (T grade : grades) {
+            for (GradeBookListener<? super T> listener : listeners) {
+                listener.erased(grade);
+            }
+        }
+
+        return grades;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ObservableGradeBook{gradeBook=%s, listeners=%d}", gradeBook, listeners.size());
+    }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A sorted collection of distinct elements that finds an element by position, and counts the elements before a
+ * boundary, in O(log n). Backed by a treap (a binary search tree balanced by random node priorities) whose nodes
+ * keep the size of their subtree.
+ * <p>
+ * Instances are not thread safe.
+ *
+ * @param <E> Element Type
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+final class OrderStatisticTree<E> {
+
+    private final Comparator<? super E> comparator;
+    private Node<E> root;
+    private long seed = System.nanoTime() | 1;
+
+    OrderStatisticTree(final Comparator<? super E> comparator) {
+        Objects.requireNonNull(comparator, "comparator must not be null");
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    /**
+     * Method to add an element that is not yet in this tree.
+     *
+     * @param element element to add
+     */
+    void insert(final E element) {
+        root = insert(root, new Node<>(element, nextPriority()));
+    }
+
+    /**
+     * Method to remove an element.
+     *
+     * @param element element to remove
+     * @return true if element was found and removed; otherwise false
+     */
+    boolean remove(final E element) {
+        int size = size(root);
+        root = remove(root, element);
+        return size(root) != size;
+    }
+
+    /**
+     * Method to get an element by position.
+     *
+     * @param index position of element (0 is the first element)
+     * @return element at position
+     * @throws IndexOutOfBoundsException if index is not a position of this tree
+     */
+    E get(final int index) {
+
+        if (index < 0 || index >= size(root)) {
+            throw new IndexOutOfBoundsException("index " + index + " is out of bounds of size " + size(root));
+        }
+
+        Node<E> node = root;
+        int position = index;
+        while (true) {
+            int leftSize = size(node.left);
+            if (position < leftSize) {
+                node = node.left;
+            } else if (position == leftSize) {
+                return node.element;
+            } else {
+                position -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Method to count the elements of a leading run of this tree.
+     *
+     * @param inPrefix condition that is true of the first elements of this tree up to a boundary, and false after it
+     * @return count of elements before boundary
+     */
+    int countPrefix(final Predicate<? super E> inPrefix) {
+
+        int count = 0;
+        Node<E> node = root;
+        while (Objects.nonNull(node)) {
+            if (inPrefix.test(node.element)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+
+        return count;
+    }
+
+    private Node<E> insert(final Node<E> node, final Node<E> newNode) {
+
+        if (Objects.isNull(node)) {
+            return newNode;
+        } else if (newNode.priority > node.priority) {
+            split(node, newNode.element, newNode);
+            return update(newNode);
+        } else if (comparator.compare(newNode.element, node.element) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+
+        return update(node);
+    }
+
+    /**
+     * Method to split a subtree into the elements before an element and the elements after it.
+     *
+     * @param node    root of subtree to split
+     * @param element element to split at
+     * @param parent  node to take the split subtrees as its left and right subtrees
+     */
+    private void split(final Node<E> node, final E element, final Node<E> parent) {
+
+        if (Objects.isNull(node)) {
+            parent.left = null;
+            parent.right = null;
+        } else if (comparator.compare(node.element, element) < 0) {
+            split(node.right, element, parent);
+            node.right = parent.left;
+            parent.left = update(node);
+        } else {
+            split(node.left, element, parent);
+            node.left = parent.right;
+            parent.right = update(node);
+        }
+    }
+
+    private Node<E> remove(final Node<E> node, final E element) {
+
+        if (Objects.isNull(node)) {
+            return null;
+        }
+
+        int comparison = comparator.compare(element, node.element);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        } else if (comparison < 0) {
+            node.left = remove(node.left, element);
+        } else {
+            node.right = remove(node.right, element);
+        }
+
+        return update(node);
+    }
+
+    private Node<E> merge(final Node<E> left, final Node<E> right) {
+
+        if (Objects.isNull(left)) {
+            return right;
+        } else if (Objects.isNull(right)) {
+            return left;
+        } else if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        } else {
+            right.left = merge(left, right.left);
+            return update(right);
+        }
+    }
+
+    private long nextPriority() {
+        // xorshift
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        return seed;
+    }
+
+    private static <E> Node<E> update(final Node<E> node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static int size(final Node<?> node) {
+        return Objects.isNull(node) ? 0 : node.size;
+    }
+
+    private static final class Node<E> {
+
+        private final E element;
+        private final long priority;
+        private int size = 1;
+        private Node<E> left;
+        private Node<E> right;
+
+        private Node(final E element, final long priority) {
+            this.element = element;
+            this.priority = priority;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.api.GradeBookListener;
+import com.dryxtech.grade.util.RollingWindow;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Rolling time window aggregates of the grades of a grade book per grading system and grade type
+ * (e.g. the average inspection score of each restaurant over the last 90 days), which are updated as grades are
+ * recorded and erased in O(1) per grade (see {@link RollingWindow}). Grades without a timestamp or numeric value
+ * are not aggregated. Windows are moved forward by the clock only, so grades dated more than a bucket after the time
+ * of the clock are not aggregated rather than pushing current grades out of the window.
+ * An erased grade is taken out of its window only if the window took it in, so the aggregator keeps the grades
+ * its windows took in (which the grade book holds anyway) until they are erased.
+ * <p>
+ * The aggregator is guarded by the lock of its grade book, so it is consistent with the grades of the book.
+ *
+ * @param <T> Grade Type
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public class RollingGradeAggregator<T extends Grade> implements GradeBookListener<T> {
+
+    private final ObservableGradeBook<T> gradeBook;
+    private final Supplier<RollingWindow> windowFactory;
+    private final Clock clock;
+    private final Map<String, Map<String, RollingWindow>> windows = new HashMap<>();
+    private final Map<T, Integer> aggregatedGrades = new HashMap<>();
+
+    private RollingGradeAggregator(final ObservableGradeBook<T> gradeBook, final Supplier<RollingWindow> windowFactory,
+                                   final Clock clock) {
+        Objects.requireNonNull(gradeBook, "gradebook must not be null");
+        Objects.requireNonNull(windowFactory, "window factory must not be null");
+        Objects.requireNonNull(clock, "clock must not be null");
+        this.gradeBook = gradeBook;
+        this.windowFactory = windowFactory;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates rolling aggregates of the grades of a grade book, of the system clock.
+     *
+     * @param gradeBook     grade book to follow
+     * @param windowFactory factory of a window per grading system and grade type
+     *                      (e.g. {@code () -> RollingWindow.sliding(Duration.ofDays(7), 7)})
+     * @param <T>           Grade Type
+     * @return aggregator of grades already in grade book
+     */
+    public static <T extends Grade> RollingGradeAggregator<T> attach(final ObservableGradeBook<T> gradeBook,
+                                                                     final Supplier<RollingWindow> windowFactory) {
+        return attach(gradeBook, windowFactory, Clock.systemUTC());
+    }
+
+    /**
+     * Creates rolling aggregates of the grades of a grade book.
+     *
+     * @param gradeBook     grade book to follow
+     * @param windowFactory factory of a window per grading system and grade type
+     * @param clock         clock to move windows forward with when read
+     * @param <T>           Grade Type
+     * @return aggregator of grades already in grade book
+     */
+    public static <T extends Grade> RollingGradeAggregator<T> attach(final ObservableGradeBook<T> gradeBook,
+                                                                     final Supplier<RollingWindow> windowFactory,
+                                                                     final Clock clock) {
+        RollingGradeAggregator<T> aggregator = new RollingGradeAggregator<>(gradeBook, windowFactory, clock);
+        gradeBook.addListener(aggregator);
+        return aggregator;
+    }
+
+    @Override
+    public void recorded(final T grade) {
+        if (Objects.nonNull(grade.getTimestamp()) && Objects.nonNull(grade.getNumericValue())) {
+            synchronized (gradeBook) {
+                boolean added = windows.computeIfAbsent(grade.getGradingSystem(), key -> new HashMap<>())
+                        .computeIfAbsent(grade.getType(), key -> windowFactory.get())
+                        .add(grade.getTimestamp().toInstant(), grade.getNumericValue(), clock.instant());
+                if (added) {
+                    aggregatedGrades.merge(grade, 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void erased(final T grade) {
+        if (Objects.nonNull(grade.getTimestamp()) && Objects.nonNull(grade.getNumericValue())) {
+            synchronized (gradeBook) {
+                // a grade the window did not take in must not take out the value of another grade of its bucket
+                Integer aggregatedCount = aggregatedGrades.get(grade);
+                if (Objects.isNull(aggregatedCount)) {
+                    return;
+                } else if (aggregatedCount > 1) {
+                    aggregatedGrades.put(grade, aggregatedCount - 1);
+                } else {
+                    aggregatedGrades.remove(grade);
+                }
+
+                RollingWindow window = currentWindow(grade.getGradingSystem(), grade.getType());
+                if (Objects.nonNull(window)) {
+                    window.remove(grade.getTimestamp().toInstant(), grade.getNumericValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Getter of the count of grades in the window of a grading system and grade type.
+     *
+     * @param gradingSystem id of grading system
+     * @param type          grade type
+     * @return count of grades
+     */
+    public long getCount(final String gradingSystem, final String type) {
+        synchronized (gradeBook) {
+            RollingWindow window = currentWindow(gradingSystem, type);
+            return Objects.isNull(window) ? 0 : window.getCount();
+        }
+    }
+
+    /**
+     * Getter of the sum of grade values in the window of a grading system and grade type.
+     *
+     * @param gradingSystem id of grading system
+     * @param type          grade type
+     * @return sum of grade values
+     */
+    public BigDecimal getSum(final String gradingSystem, final String type) {
+        synchronized (gradeBook) {
+            RollingWindow window = currentWindow(gradingSystem, type);
+            return Objects.isNull(window) ? BigDecimal.ZERO : window.getSum();
+        }
+    }
+
+    /**
+     * Getter of the average grade value in the window of a grading system and grade type.
+     *
+     * @param gradingSystem id of grading system
+     * @param type          grade type
+     * @return optional containing average; otherwise empty if window has no grades
+     */
+    public Optional<BigDecimal> getAverage(final String gradingSystem, final String type) {
+        synchronized (gradeBook) {
+            RollingWindow window = currentWindow(gradingSystem, type);
+            return Objects.isNull(window) ? Optional.empty() : window.getAverage();
+        }
+    }
+
+    /**
+     * Getter of the grade types aggregated of a grading system.
+     *
+     * @param gradingSystem id of grading system
+     * @return sorted grade types
+     */
+    public Set<String> getTypes(final String gradingSystem) {
+        synchronized (gradeBook) {
+            Map<String, RollingWindow> typeWindows = windows.getOrDefault(gradingSystem, Collections.emptyMap());
+            return Collections.unmodifiableSet(new TreeSet<>(typeWindows.keySet()));
+        }
+    }
+
+    private RollingWindow findWindow(final String gradingSystem, final String type) {
+        return windows.getOrDefault(gradingSystem, Collections.emptyMap()).get(type);
+    }
+
+    private RollingWindow currentWindow(final String gradingSystem, final String type) {
+
+        RollingWindow window = findWindow(gradingSystem, type);
+        if (Objects.nonNull(window)) {
+            window.advanceTo(clock.instant());
+        }
+
+        return window;
+    }
+
+    @Override
+    public String toString() {
+        synchronized (gradeBook) {
+            return String.format("RollingGradeAggregator{windows=%s}", windows);
+        }
+    }
+}
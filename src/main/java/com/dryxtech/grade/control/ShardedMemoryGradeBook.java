@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.api.GradeBook;
+import com.dryxtech.grade.util.IdentifierUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A thread-safe in-memory grade book partitioned into shards by the hash of grade id, each with its own lock,
+ * so recording grades from many threads does not contend on one lock, and does not wait on a scan of the whole book.
+ * Searches fan out over the shards in parallel (in a fork/join pool) once the book is large enough, and the results
+ * are merged in shard order, so grades are found in the order they were recorded within a shard only. The search
+ * of a find may therefore be tested from several threads at once. Erasing goes through the shards one after another,
+ * so the search of an erase is tested from the calling thread only.
+ * <p>
+ * Recording a collection of grades is not atomic across shards: a search may see part of the collection.
+ *
+ * @param <T> Grade Type
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public class ShardedMemoryGradeBook<T extends Grade> implements GradeBook<T> {
+
+    public static final int PARALLEL_FIND_THRESHOLD = 1 << 13;
+
+    private final String name;
+    private final int maxSizeLimit;
+    private final Shard<T>[] shards;
+    private final ForkJoinPool forkJoinPool;
+    private final AtomicInteger size = new AtomicInteger();
+
+    public ShardedMemoryGradeBook() {
+        this(null, Runtime.getRuntime().availableProcessors(), SimpleMemoryGradeBook.DEFAULT_MAX_SIZE_LIMIT);
+    }
+
+    public ShardedMemoryGradeBook(final String name, final int shardCount, final int maxSizeLimit) {
+        this(name, shardCount, maxSizeLimit, ForkJoinPool.commonPool());
+    }
+
+    @SuppressWarnings("unchecked")
+    public ShardedMemoryGradeBook(final String name, final int shardCount, final int maxSizeLimit,
+                                  final ForkJoinPool forkJoinPool) {
+        Objects.requireNonNull(forkJoinPool, "fork join pool must not be null");
+
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shard count must be at least 1");
+        }
+
+        if (Objects.nonNull(name) && (name.trim().length() > 0)) {
+            this.name = name;
+        } else {
+            this.name = IdentifierUtil.generateIdString();
+        }
+
+        this.maxSizeLimit = maxSizeLimit;
+        this.forkJoinPool = forkJoinPool;
+        this.shards = (Shard<T>[]) new Shard<?>[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard<>();
+        }
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    @Override
+    public void record(final T grade) {
+
+        Objects.requireNonNull(grade, "grade must not be null");
+        reserve(1, "grade book current size is at max limit. cannot record additional grade.");
+
+        shardOf(grade).add(grade);
+    }
+
+    @Override
+    public void record(final Collection<T> grades) {
+
+        Objects.requireNonNull(grades, "grades must not be null");
+        grades.forEach(grade -> Objects.requireNonNull(grade, "grade must not be null"));
+        reserve(grades.size(), "grade book current size + input grade count would exceed max limit. cannot record additional grades.");
+
+        List<List<T>> shardGrades = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            shardGrades.add(new ArrayList<>());
+        }
+        for (T grade : grades) {
+            shardGrades.get(shardIndex(grade)).add(grade);
+        }
+
+        for (int i = 0; i < shards.length; i++) {
+            if (!shardGrades.get(i).isEmpty()) {
+                shards[i].addAll(shardGrades.get(i));
+            }
+        }
+    }
+
+    @Override
+    public boolean erase(final T grade) {
+
+        Objects.requireNonNull(grade, "grade must not be null");
+
+        if (shardOf(grade).remove(grade)) {
+            size.decrementAndGet();
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public Collection<T> erase(final Predicate<T> search) {
+
+        Objects.requireNonNull(search, "search must not be null");
+
+        List<T> gradesRemoved = new ArrayList<>();
+        for (Shard<T> shard : shards) {
+            gradesRemoved.addAll(shard.removeIf(search));
+        }
+
+        size.addAndGet(-gradesRemoved.size());
+        return gradesRemoved;
+    }
+
+    @Override
+    public int eraseCount(final Predicate<T> search) {
+
+        Objects.requireNonNull(search, "search must not be null");
+
+        int count = 0;
+        for (Shard<T> shard : shards) {
+            count += shard.removeCount(search);
+        }
+
+        size.addAndGet(-count);
+        return count;
+    }
+
+    @Override
+    public Collection<T> eraseAll() {
+
+        List<T> gradesRemoved = new ArrayList<>();
+        for (Shard<T> shard : shards) {
+            gradesRemoved.addAll(shard.clear());
+        }
+
+        size.addAndGet(-gradesRemoved.size());
+        return gradesRemoved;
+    }
+
+    @Override
+    public Collection<T> find(final Predicate<T> search) {
+
+        if (Objects.isNull(search)) {
+            return Collections.emptyList();
+        }
+
+        return fanOut(shard -> shard.find(search));
+    }
+
+    @Override
+    public Collection<T> findAll() {
+        return fanOut(shard -> shard.find(grade -> true));
+    }
+
+    /**
+     * Getter of count of grades.
+     *
+     * @return count of grades
+     */
+    public int size() {
+        return size.get();
+    }
+
+    private List<T> fanOut(final Function<Shard<T>, List<T>> operation) {
+
+        if (size.get() < PARALLEL_FIND_THRESHOLD || shards.length == 1) {
+            return Arrays.stream(shards)
+                    .flatMap(shard -> operation.apply(shard).stream())
+                    .collect(Collectors.toList());
+        }
+
+        return forkJoinPool.submit(() -> Arrays.stream(shards)
+                .parallel()
+                .map(operation)
+                .flatMap(List::stream)
+                .collect(Collectors.toList())).join();
+    }
+
+    private void reserve(final int count, final String message) {
+
+        int current;
+        do {
+            current = size.get();
+            if (count > maxSizeLimit - current) {
+                throw new IllegalStateException(message);
+            }
+        } while (!size.compareAndSet(current, current + count));
+    }
+
+    private int shardIndex(final T grade) {
+        int hash = Objects.hashCode(grade.getId());
+        return Math.floorMod(hash ^ (hash >>> 16), shards.length);
+    }
+
+    private Shard<T> shardOf(final T grade) {
+        return shards[shardIndex(grade)];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ShardedMemoryGradeBook{name=%s, shardCount=%d, maxSizeLimit=%d}", this.name,
+                shards.length, this.maxSizeLimit);
+    }
+
+    /**
+     * Grades of a shard, guarded by a lock of the shard.
+     */
+    private static final class Shard<T extends Grade> {
+
+        private final List<T> grades = new ArrayList<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private void add(final T grade) {
+            lock.writeLock().lock();
+            try {
+                grades.add(grade);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void addAll(final Collection<T> shardGrades) {
+            lock.writeLock().lock();
+            try {
+                grades.addAll(shardGrades);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private boolean remove(final T grade) {
+            lock.writeLock().lock();
+            try {
+                return grades.remove(grade);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private List<T> removeIf(final Predicate<T> search) {
+            lock.writeLock().lock();
+            try {
+                List<T> gradesRemoved = new ArrayList<>();
+                grades.removeIf(grade -> search.test(grade) && gradesRemoved.add(grade));
+                return gradesRemoved;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private int removeCount(final Predicate<T> search) {
+            lock.writeLock().lock();
+            try {
+                int count = grades.size();
+                grades.removeIf(search);
+                return count - grades.size();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private List<T> clear() {
+            lock.writeLock().lock();
+            try {
+                List<T> gradesRemoved = new ArrayList<>(grades);
+                grades.clear();
+                return gradesRemoved;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private List<T> find(final Predicate<T> search) {
+            lock.readLock().lock();
+            try {
+                return grades.stream()
+                        .filter(search)
+                        .collect(Collectors.toList());
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+}
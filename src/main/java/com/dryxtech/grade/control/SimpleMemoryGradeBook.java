@@ -115,15 +115,22 @@ public class SimpleMemoryGradeBook<T extends Grade> implements GradeBook<T> {
         Objects.requireNonNull(search, "search must not be null");
 
         List<T> gradesRemoved = new ArrayList<>();
-        this.grades.stream()
-                .filter(search)
-                .forEach(gradesRemoved::add);
-
-        this.grades.removeAll(gradesRemoved);
+        this.grades.removeIf(grade -> search.test(grade) && gradesRemoved.add(grade));
 
         return gradesRemoved;
     }
 
+    @Override
+    public synchronized int eraseCount(final Predicate<T> search) {
+
+        Objects.requireNonNull(search, "search must not be null");
+
+        int size = this.grades.size();
+        this.grades.removeIf(search);
+
+        return size - this.grades.size();
+    }
+
     @Override
     public synchronized Collection<T> eraseAll() {
 
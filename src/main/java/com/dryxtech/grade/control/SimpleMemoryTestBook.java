@@ -115,15 +115,22 @@ public class SimpleMemoryTestBook<T extends Test> implements TestBook<T> {
         Objects.requireNonNull(search, "search must not be null");
 
         List<T> testsRemoved = new ArrayList<>();
-        this.tests.stream()
-                .filter(search)
-                .forEach(testsRemoved::add);
-
-        this.tests.removeAll(testsRemoved);
+        this.tests.removeIf(test -> search.test(test) && testsRemoved.add(test));
 
         return testsRemoved;
     }
 
+    @Override
+    public synchronized int eraseCount(final Predicate<T> search) {
+
+        Objects.requireNonNull(search, "search must not be null");
+
+        int size = this.tests.size();
+        this.tests.removeIf(search);
+
+        return size - this.tests.size();
+    }
+
     @Override
     public synchronized Collection<T> eraseAll() {
 
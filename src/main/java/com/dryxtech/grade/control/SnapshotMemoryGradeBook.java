@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.api.GradeBook;
+import com.dryxtech.grade.util.IdentifierUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A thread-safe in-memory grade book for mostly reading, where readers run against an immutable snapshot of the
+ * grades without taking a lock. Writers copy the grades, change the copy and publish it as the new snapshot
+ * (copy-on-write), so a write is O(n) and writers are serialized, but never block readers.
+ * {@link #findAll()} returns the snapshot itself, a read-only list that does not change.
+ *
+ * @param <T> Grade Type
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public class SnapshotMemoryGradeBook<T extends Grade> implements GradeBook<T> {
+
+    private final String name;
+    private final int maxSizeLimit;
+    private volatile List<T> grades = Collections.emptyList();
+
+    public SnapshotMemoryGradeBook() {
+        this(null, SimpleMemoryGradeBook.DEFAULT_MAX_SIZE_LIMIT);
+    }
+
+    public SnapshotMemoryGradeBook(final String name) {
+        this(name, SimpleMemoryGradeBook.DEFAULT_MAX_SIZE_LIMIT);
+    }
+
+    public SnapshotMemoryGradeBook(final String name, final int maxSizeLimit) {
+
+        if (Objects.nonNull(name) && (name.trim().length() > 0)) {
+            this.name = name;
+        } else {
+            this.name = IdentifierUtil.generateIdString();
+        }
+
+        this.maxSizeLimit = maxSizeLimit;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public synchronized void record(final T grade) {
+
+        Objects.requireNonNull(grade, "grade must not be null");
+        if (this.grades.size() >= maxSizeLimit) {
+            throw new IllegalStateException("grade book current size is at max limit. cannot record additional grade.");
+        }
+
+        List<T> next = new ArrayList<>(this.grades.size() + 1);
+        next.addAll(this.grades);
+        next.add(grade);
+        publish(next);
+    }
+
+    @Override
+    public synchronized void record(final Collection<T> grades) {
+
+        Objects.requireNonNull(grades, "grades must not be null");
+        if ((this.grades.size() + grades.size()) > maxSizeLimit) {
+            throw new IllegalStateException("grade book current size + input grade count would exceed max limit. cannot record additional grades.");
+        }
+
+        List<T> next = new ArrayList<>(this.grades.size() + grades.size());
+        next.addAll(this.grades);
+        next.addAll(grades);
+        publish(next);
+    }
+
+    @Override
+    public synchronized boolean erase(final T grade) {
+
+        Objects.requireNonNull(grade, "grade must not be null");
+
+        int index = this.grades.indexOf(grade);
+        if (index < 0) {
+            return false;
+        }
+
+        List<T> next = new ArrayList<>(this.grades);
+        next.remove(index);
+        publish(next);
+        return true;
+    }
+
+    @Override
+    public synchronized Collection<T> erase(final Predicate<T> search) {
+
+        Objects.requireNonNull(search, "search must not be null");
+
+        List<T> gradesRemoved = new ArrayList<>();
+        List<T> next = new ArrayList<>(this.grades.size());
+        for (T grade : this.grades) {
+            if (search.test(grade)) {
+                gradesRemoved.add(grade);
+            } else {
+                next.add(grade);
+            }
+        }
+
+        if (!gradesRemoved.isEmpty()) {
+            publish(next);
+        }
+        return gradesRemoved;
+    }
+
+    @Override
+    public synchronized Collection<T> eraseAll() {
+
+        List<T> gradesRemoved = this.grades;
+        this.grades = Collections.emptyList();
+        return gradesRemoved;
+    }
+
+    @Override
+    public Collection<T> find(final Predicate<T> search) {
+
+        if (Objects.isNull(search)) {
+            return Collections.emptyList();
+        } else {
+            return this.grades.stream()
+                    .filter(search)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Find all grades from the managed group.
+     *
+     * @return read-only snapshot of all grades, which is not changed by later writes
+     */
+    @Override
+    public Collection<T> findAll() {
+        return this.grades;
+    }
+
+    /**
+     * Getter of count of grades.
+     *
+     * @return count of grades
+     */
+    public int size() {
+        return this.grades.size();
+    }
+
+    private void publish(final List<T> next) {
+        this.grades = Collections.unmodifiableList(next);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SnapshotMemoryGradeBook{name=%s, maxSizeLimit=%d}", this.name, this.maxSizeLimit);
+    }
+}
@@ -20,15 +20,26 @@ import com.dryxtech.grade.api.GradeConverter;
 import com.dryxtech.grade.api.GradeException;
 import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.Grader;
+import com.dryxtech.grade.api.GradeValueRange;
 import com.dryxtech.grade.api.GradingSystem;
-import com.dryxtech.grade.model.GradeValueBuilder;
+import com.dryxtech.grade.model.BasicGradeValue;
+import com.dryxtech.grade.model.BasicGradingSystem;
+import com.dryxtech.grade.model.GradeValueRangeIndex;
+import com.dryxtech.grade.system.CompiledGradingSystem;
 import com.dryxtech.grade.system.GradingSystemRegistry;
+import com.dryxtech.grade.util.FixedPointMath;
+import com.dryxtech.grade.util.GradeStatistics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
 
 /**
  * An Abstract Class for graders.
@@ -42,39 +53,198 @@ public abstract class AbstractGrader<T> implements Grader<T> {
 
     protected final GradingSystem gradingSystem;
     protected final GradingSystemRegistry registry;
+    protected final GraderOptions options;
+    protected final CompiledGradingSystem compiledSystem;
+    protected final GradeValueRangeIndex rangeIndex;
+    private final GradeValue[] rangeGradeValues;
+    // registry ordinals never change once assigned, so the target ordinal is resolved once
+    private volatile int targetOrdinal = -1;
 
     protected AbstractGrader(final GradingSystem gradingSystem) {
-        Objects.requireNonNull(gradingSystem, "grading system must not be null");
-        this.gradingSystem = gradingSystem;
-        this.registry = null;
+        this(gradingSystem, null, GraderOptions.defaults());
     }
 
     protected AbstractGrader(final GradingSystem gradingSystem, final GradingSystemRegistry registry) {
+        this(gradingSystem, registry, GraderOptions.defaults());
+    }
+
+    protected AbstractGrader(final GradingSystem gradingSystem, final GradingSystemRegistry registry,
+                             final GraderOptions options) {
         Objects.requireNonNull(gradingSystem, "grading system must not be null");
+        Objects.requireNonNull(options, "grader options must not be null");
         this.gradingSystem = gradingSystem;
         this.registry = registry;
+        this.options = options;
+
+        if (gradingSystem instanceof CompiledGradingSystem) {
+            this.compiledSystem = (CompiledGradingSystem) gradingSystem;
+            this.rangeIndex = compiledSystem.getRangeIndex();
+        } else {
+            this.compiledSystem = null;
+            this.rangeIndex = (gradingSystem instanceof BasicGradingSystem) ?
+                    ((BasicGradingSystem) gradingSystem).getRangeIndex() : null;
+        }
+
+        if (options.isSnapToRange() && Objects.nonNull(rangeIndex)) {
+            // one shared immutable grade value per range
+            this.rangeGradeValues = new GradeValue[rangeIndex.size()];
+            for (int i = 0; i < rangeGradeValues.length; i++) {
+                GradeValueRange range = rangeIndex.get(i);
+                rangeGradeValues[i] = new BasicGradeValue(range.getEffectiveRangeMidValue(), range.getTextValue(),
+                        gradingSystem.getId());
+            }
+        } else {
+            this.rangeGradeValues = null;
+        }
+    }
+
+    /**
+     * Getter of grader options.
+     *
+     * @return grader options
+     */
+    public GraderOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Getter of range index used to classify values.
+     *
+     * @return range index; otherwise null if the grading system is not indexed
+     */
+    public GradeValueRangeIndex getRangeIndex() {
+        return rangeIndex;
+    }
+
+    /**
+     * Method to classify a numeric value into a range of the grading system.
+     *
+     * @param numericValue numeric value to classify
+     * @return position of range in grading system's range index (0 is the lowest range);
+     * otherwise -1 if no range contains the value or the grading system is not indexed
+     */
+    public int classify(final BigDecimal numericValue) {
+        if (Objects.nonNull(compiledSystem)) {
+            return compiledSystem.indexOf(numericValue);
+        }
+        return Objects.isNull(rangeIndex) ? -1 : rangeIndex.indexOf(numericValue);
+    }
+
+    /**
+     * Method to classify a fixed point value into a range of the grading system.
+     *
+     * @param scaledValue numeric value scaled by 10^9 (see {@link FixedPointMath})
+     * @return position of range in grading system's range index (0 is the lowest range);
+     * otherwise -1 if no range contains the value or the grading system is not indexed
+     */
+    public int classifyScaled(final long scaledValue) {
+        if (Objects.nonNull(compiledSystem)) {
+            return compiledSystem.indexOfScaled(scaledValue);
+        }
+        return Objects.isNull(rangeIndex) ? -1 : rangeIndex.indexOfScaled(scaledValue);
+    }
+
+    /**
+     * Getter of the shared grade value of a range, used when snapping to range.
+     *
+     * @param index position of range in grading system's range index
+     * @return shared grade value of range; otherwise null if grader does not snap to range
+     */
+    protected GradeValue getRangeGradeValue(final int index) {
+        return Objects.isNull(rangeGradeValues) ? null : rangeGradeValues[index];
+    }
+
+    protected GradeException noRangeFound(final Object numericValue) {
+        return new GradeException(String.format("failed to get textValue for numericValue %s from grading system %s",
+                numericValue, gradingSystem.getId()));
     }
 
     public String getTextValue(final BigDecimal numericValue) throws GradeException {
         Objects.requireNonNull(numericValue, "numeric value must not be null");
-        return gradingSystem.getTextValue(new BigDecimal(numericValue.toString()))
-                .orElseThrow(() -> new GradeException(String.format("failed to get textValue for numericValue %s from grading system %s",
-                        numericValue, gradingSystem.getId())));
+        return gradingSystem.getTextValue(numericValue)
+                .orElseThrow(() -> noRangeFound(numericValue));
     }
 
     public GradeValue getGradeValue(final BigDecimal numericValue) throws GradeException {
         Objects.requireNonNull(numericValue, "numeric value must not be null");
-        return GradeValueBuilder.builder()
-                .gradingSystem(gradingSystem.getId())
-                .numericValue(numericValue)
-                .textValue(getTextValue(numericValue))
-                .build();
+
+        if (Objects.nonNull(rangeGradeValues)) {
+            int index = classify(numericValue);
+            if (index < 0) {
+                throw noRangeFound(numericValue);
+            }
+            return rangeGradeValues[index];
+        }
+
+        // BigDecimal is immutable, so the value is used as-is instead of being copied through the builder
+        return new BasicGradeValue(numericValue, getTextValue(numericValue), gradingSystem.getId());
+    }
+
+    protected GradeValue getScaledGradeValue(final long scaledValue) throws GradeException {
+
+        if (Objects.isNull(rangeIndex)) {
+            return getGradeValue(FixedPointMath.toBigDecimal(scaledValue));
+        }
+
+        int index = classifyScaled(scaledValue);
+        if (index < 0) {
+            throw noRangeFound(FixedPointMath.toBigDecimal(scaledValue));
+        }
+
+        GradeValue rangeGradeValue = getRangeGradeValue(index);
+        return Objects.nonNull(rangeGradeValue) ? rangeGradeValue : new BasicGradeValue(
+                FixedPointMath.toBigDecimal(scaledValue), rangeIndex.get(index).getTextValue(), gradingSystem.getId());
+    }
+
+    /**
+     * Method to compute the statistics (mean, standard deviation, quantiles, etc.) of grade values, in parallel when
+     * there are at least {@link GraderOptions#getParallelThreshold()} values.
+     *
+     * @param gradeValues grade values to analyze
+     * @return statistics of numeric values of grade values
+     */
+    public GradeStatistics statistics(final Collection<? extends GradeValue> gradeValues) {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+        return accumulate(gradeValues, GradeStatistics::new, GradeStatistics::addGradeValue, GradeStatistics::combine);
+    }
+
+    /**
+     * Method to feed values into an accumulator, in parallel on the options' fork/join pool when there are at
+     * least {@link GraderOptions#getParallelThreshold()} values. Partial accumulators are combined in value order.
+     *
+     * @param values      values to accumulate
+     * @param supplier    supplier of empty accumulators
+     * @param accumulator function adding a value to an accumulator
+     * @param combiner    function merging the right accumulator into the left accumulator
+     * @param <V>         type of values
+     * @param <A>         type of accumulator
+     * @return accumulator holding all values
+     */
+    protected <V, A> A accumulate(final Collection<? extends V> values, final Supplier<A> supplier,
+                                  final BiConsumer<A, ? super V> accumulator, final BinaryOperator<A> combiner) {
+
+        int size = values.size();
+        if (size < options.getParallelThreshold()) {
+            A result = supplier.get();
+            for (V value : values) {
+                accumulator.accept(result, value);
+            }
+            return result;
+        }
+
+        ForkJoinPool pool = options.getForkJoinPool();
+        // a few chunks per worker balances the load without making chunks smaller than the threshold requires
+        int chunkSize = Math.max(1, Math.min(options.getParallelThreshold(), size / (pool.getParallelism() * 4)));
+        @SuppressWarnings("unchecked")
+        V[] array = (V[]) values.toArray();
+
+        return pool.invoke(new AccumulatorTask<>(array, 0, array.length, chunkSize, supplier, accumulator, combiner));
     }
 
     protected GradeValue convert(final GradeValue gradeValue) {
 
         if (!gradeValue.getGradingSystem().equals(this.gradingSystem.getId()) && Objects.nonNull(registry)) {
-            Optional<GradeConverter> converter = registry.lookupConverter(gradeValue.getGradingSystem(), gradingSystem.getId());
+            Optional<GradeConverter> converter = lookupConverter(gradeValue.getGradingSystem());
             if (converter.isPresent()) {
                 try {
                     return converter.get().convert(gradeValue, gradingSystem.getId());
@@ -86,6 +256,18 @@ public abstract class AbstractGrader<T> implements Grader<T> {
         return gradeValue;
     }
 
+    private Optional<GradeConverter> lookupConverter(final String fromGradingSystemId) {
+
+        int toOrdinal = targetOrdinal;
+        if (toOrdinal < 0) {
+            toOrdinal = registry.ordinalOf(gradingSystem.getId());
+            targetOrdinal = toOrdinal;
+        }
+
+        int fromOrdinal = registry.ordinalOf(fromGradingSystemId);
+        return (fromOrdinal < 0 || toOrdinal < 0) ? Optional.empty() : registry.resolveConverter(fromOrdinal, toOrdinal);
+    }
+
     public abstract GradeValue grade(T t) throws GradeException;
 
     @Override
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.grader;
+
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Fork/join task that feeds a slice of values into partial accumulators and combines them.
+ * Partial accumulators are always combined left to right in value order, so the result does not depend
+ * on how work is scheduled.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+final class AccumulatorTask<T, A> extends RecursiveTask<A> {
+
+    private final T[] values;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+    private final Supplier<A> supplier;
+    private final BiConsumer<A, ? super T> accumulator;
+    private final BinaryOperator<A> combiner;
+
+    AccumulatorTask(final T[] values, final int from, final int to, final int chunkSize, final Supplier<A> supplier,
+                    final BiConsumer<A, ? super T> accumulator, final BinaryOperator<A> combiner) {
+        this.values = values;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+        this.supplier = supplier;
+        this.accumulator = accumulator;
+        this.combiner = combiner;
+    }
+
+    @Override
+    protected A compute() {
+
+        if (to - from <= chunkSize) {
+            A partial = supplier.get();
+            for (int i = from; i < to; i++) {
+                accumulator.accept(partial, values[i]);
+            }
+            return partial;
+        }
+
+        int mid = (from + to) >>> 1;
+        AccumulatorTask<T, A> right = new AccumulatorTask<>(values, mid, to, chunkSize, supplier, accumulator, combiner);
+        right.fork();
+        A left = new AccumulatorTask<>(values, from, mid, chunkSize, supplier, accumulator, combiner).compute();
+
+        return combiner.apply(left, right.join());
+    }
+}
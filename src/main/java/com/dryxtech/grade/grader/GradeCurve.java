@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.grader;
+
+import com.dryxtech.grade.util.GradeStatistics;
+
+import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A curve that maps the raw numeric values of a cohort of grades to curved values, relative to the cohort
+ * (see {@link NumberGrader#curve(java.util.Collection, GradeCurve)}).
+ * <ul>
+ * <li>z-score: (value - mean) / standard deviation, rescaled to a target mean and standard deviation</li>
+ * <li>percentile: percent of the cohort below the value (counting ties as half), from 0 to 100</li>
+ * <li>linear: the cohort's minimum to maximum rescaled to a target minimum to maximum</li>
+ * </ul>
+ * Curved values are rounded half even to a scale (2 decimal places by default).
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class GradeCurve {
+
+    /**
+     * Key of the reference from a curved grade to its original grade.
+     */
+    public static final String ORIGINAL_REFERENCE = "curve.original";
+    public static final int DEFAULT_SCALE = 2;
+
+    public enum Type {
+        Z_SCORE,
+        PERCENTILE,
+        LINEAR
+    }
+
+    private final Type type;
+    private final double targetLow;
+    private final double targetHigh;
+    private final int scale;
+
+    private GradeCurve(final Type type, final double targetLow, final double targetHigh, final int scale) {
+        this.type = type;
+        this.targetLow = targetLow;
+        this.targetHigh = targetHigh;
+        this.scale = scale;
+    }
+
+    /**
+     * Creates a curve to standard scores (e.g. for a grading system of ranges of standard deviations).
+     *
+     * @return z-score curve of mean 0 and standard deviation 1
+     */
+    public static GradeCurve zScore() {
+        return zScore(0, 1);
+    }
+
+    /**
+     * Creates a curve to standard scores rescaled to a target mean and standard deviation
+     * (e.g. a mean of 75 and a standard deviation of 10 for a percent grading system).
+     *
+     * @param targetMean   mean of curved values
+     * @param targetStdDev standard deviation of curved values
+     * @return z-score curve
+     * @throws IllegalArgumentException if target mean is not finite or target standard deviation is not positive
+     */
+    public static GradeCurve zScore(final double targetMean, final double targetStdDev) {
+
+        if (!Double.isFinite(targetMean) || !(targetStdDev > 0 && Double.isFinite(targetStdDev))) {
+            throw new IllegalArgumentException("target mean must be finite and target standard deviation must be positive");
+        }
+
+        return new GradeCurve(Type.Z_SCORE, targetMean, targetStdDev, DEFAULT_SCALE);
+    }
+
+    /**
+     * Creates a curve to percentile ranks within the cohort.
+     *
+     * @return percentile curve from 0 to 100
+     */
+    public static GradeCurve percentile() {
+        return new GradeCurve(Type.PERCENTILE, 0, 100, DEFAULT_SCALE);
+    }
+
+    /**
+     * Creates a curve that rescales the cohort's minimum to maximum to a target minimum to maximum.
+     * A cohort of a single value is curved to the middle of the target.
+     *
+     * @param targetMin curved value of cohort's minimum
+     * @param targetMax curved value of cohort's maximum
+     * @return linear curve
+     * @throws IllegalArgumentException if target minimum is greater than target maximum
+     */
+    public static GradeCurve linear(final double targetMin, final double targetMax) {
+
+        if (!Double.isFinite(targetMin) || !Double.isFinite(targetMax) || targetMin > targetMax) {
+            throw new IllegalArgumentException("target min and max must be finite and target min must not be greater than target max");
+        }
+
+        return new GradeCurve(Type.LINEAR, targetMin, targetMax, DEFAULT_SCALE);
+    }
+
+    /**
+     * Method to create a copy of this curve that rounds curved values to a scale.
+     *
+     * @param scale number of decimal places of curved values
+     * @return curve
+     */
+    public GradeCurve withScale(final int scale) {
+        return new GradeCurve(type, targetLow, targetHigh, scale);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * Method to bind this curve to the statistics of a cohort.
+     *
+     * @param statistics   statistics of cohort
+     * @param sortedValues sorted values of cohort (required by percentile curve only)
+     * @return function from raw value to curved value
+     */
+    DoubleUnaryOperator bind(final GradeStatistics statistics, final double[] sortedValues) {
+
+        switch (type) {
+            case Z_SCORE:
+                double mean = statistics.getMean().orElse(0);
+                double stdDev = statistics.getStandardDeviation().orElse(0);
+                return value -> targetLow + ((stdDev > 0) ? (value - mean) / stdDev : 0) * targetHigh;
+            case PERCENTILE:
+                Objects.requireNonNull(sortedValues, "sorted values must not be null");
+                return value -> {
+                    int below = lowerBound(sortedValues, value);
+                    int equal = upperBound(sortedValues, value) - below;
+                    return (below + equal / 2.0) * 100 / sortedValues.length;
+                };
+            default:
+                double min = statistics.getMin().map(Number::doubleValue).orElse(0.0);
+                double range = statistics.getMax().map(Number::doubleValue).orElse(0.0) - min;
+                return value -> (range > 0) ? targetLow + (value - min) * (targetHigh - targetLow) / range
+                        : (targetLow + targetHigh) / 2;
+        }
+    }
+
+    private static int lowerBound(final double[] sortedValues, final double value) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(final double[] sortedValues, final double value) {
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        GradeCurve that = (GradeCurve) o;
+        return Double.compare(that.targetLow, targetLow) == 0 && Double.compare(that.targetHigh, targetHigh) == 0
+                && scale == that.scale && type == that.type;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, targetLow, targetHigh, scale);
+    }
+
+    @Override
+    public String toString() {
+        return "GradeCurve{" +
+                "type=" + type +
+                ", targetLow=" + targetLow +
+                ", targetHigh=" + targetHigh +
+                ", scale=" + scale +
+                '}';
+    }
+}
@@ -20,12 +20,13 @@ import com.dryxtech.grade.api.GradeException;
 import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.GradingSystem;
 import com.dryxtech.grade.system.GradingSystemRegistry;
-import com.dryxtech.grade.util.GradeMathUtil;
+import com.dryxtech.grade.util.FixedPointAccumulator;
+import com.dryxtech.grade.util.FixedPointMath;
+import com.dryxtech.grade.util.GradeAccumulator;
 
 import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Grader class that determines grade value using average of grade collection and grader's grading system.
@@ -43,14 +44,29 @@ public class GradeValueAverageGrader extends AbstractGrader<Collection<GradeValu
         super(gradingSystem, registry);
     }
 
+    public GradeValueAverageGrader(final GradingSystem gradingSystem, final GradingSystemRegistry registry,
+                                  final GraderOptions options) {
+        super(gradingSystem, registry, options);
+    }
+
     @Override
     public GradeValue grade(final Collection<GradeValue> values) throws GradeException {
         Objects.requireNonNull(values, "grade values must not be null");
 
-        BigDecimal numericValue = GradeMathUtil.calculateAverage(values.stream()
-                .map(this::convert)
-                .map(GradeValue::getNumericValue)
-                .collect(Collectors.toList()))
+        if (options.isFixedPoint()) {
+            FixedPointAccumulator accumulator = accumulate(values, FixedPointAccumulator::new,
+                    (partial, value) -> partial.addGradeValue(convert(value)), FixedPointAccumulator::combine);
+            long scaledAverage = accumulator.getScaledAverage();
+            if (scaledAverage != FixedPointMath.NOT_REPRESENTABLE) {
+                return getScaledGradeValue(scaledAverage);
+            }
+            return getGradeValue(accumulator.getAverage()
+                    .orElseThrow(() -> new GradeException("failed to get average of grade values")));
+        }
+
+        BigDecimal numericValue = accumulate(values, GradeAccumulator::new,
+                (partial, value) -> partial.addGradeValue(convert(value)), GradeAccumulator::combine)
+                .getAverage()
                 .orElseThrow(() -> new GradeException("failed to get average of grade values"));
 
         return getGradeValue(numericValue);
@@ -21,7 +21,9 @@ import com.dryxtech.grade.api.GradeException;
 import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.GradingSystem;
 import com.dryxtech.grade.system.GradingSystemRegistry;
-import com.dryxtech.grade.util.GradeMathUtil;
+import com.dryxtech.grade.util.FixedPointAccumulator;
+import com.dryxtech.grade.util.FixedPointMath;
+import com.dryxtech.grade.util.GradeAccumulator;
 
 import java.math.BigDecimal;
 import java.util.Collection;
@@ -43,12 +45,38 @@ public class GradeWeightedAverageGrader extends AbstractGrader<Collection<Grade>
         super(gradingSystem, registry);
     }
 
+    public GradeWeightedAverageGrader(final GradingSystem gradingSystem, final GradingSystemRegistry registry,
+                                     final GraderOptions options) {
+        super(gradingSystem, registry, options);
+    }
+
     @Override
     public GradeValue grade(final Collection<Grade> grades) throws GradeException {
         Objects.requireNonNull(grades, "grades must not be null");
 
-        BigDecimal numericValue = GradeMathUtil.calculateWeightedAverage(grades)
-                .orElseThrow(() -> new GradeException("failed to get weighted average of grades"));
+        if (grades.isEmpty()) {
+            throw new GradeException("failed to get weighted average of grades");
+        }
+
+        // same as GradeMathUtil.calculateWeightedAverage, null grades are skipped and alone average to 0
+        if (options.isFixedPoint()) {
+            FixedPointAccumulator accumulator = accumulate(grades, FixedPointAccumulator::new, (partial, grade) -> {
+                if (Objects.nonNull(grade)) {
+                    partial.addGrade(grade);
+                }
+            }, FixedPointAccumulator::combine);
+            long scaledAverage = accumulator.getScaledWeightedAverage();
+            if (scaledAverage != FixedPointMath.NOT_REPRESENTABLE) {
+                return getScaledGradeValue(scaledAverage);
+            }
+            return getGradeValue(accumulator.getWeightedAverage().orElse(FixedPointMath.toBigDecimal(0)));
+        }
+
+        BigDecimal numericValue = accumulate(grades, GradeAccumulator::new, (partial, grade) -> {
+            if (Objects.nonNull(grade)) {
+                partial.addGrade(grade);
+            }
+        }, GradeAccumulator::combine).getWeightedAverage().orElse(BigDecimal.ZERO);
 
         return getGradeValue(numericValue);
     }
@@ -19,46 +19,114 @@ package com.dryxtech.grade.grader;
 import com.dryxtech.grade.api.Grade;
 import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.Grader;
+import com.dryxtech.grade.api.GradingSystem;
 import com.dryxtech.grade.system.GradingSystemNotFoundException;
 import com.dryxtech.grade.system.GradingSystemRegistry;
 
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * A Class used for creating graders based on input type.
  * Constructed with registry for looking up grading systems;
+ * Graders are cached per grading system id and grader kind. A cached grader is only reused while the
+ * registry still holds the same grading system instance it was created from, so re-registering or
+ * unregistering a grading system evicts its graders.
  *
  * @author Drew Griffin
  * @since 1.0
  */
 public class GraderFactory {
 
+    private enum GraderKind {
+        NUMBER, NUMBER_AVERAGE, GRADE_VALUE_AVERAGE, GRADE_WEIGHTED_AVERAGE
+    }
+
+    private static final class CachedGrader {
+
+        private final GradingSystem gradingSystem;
+        private final Object grader;
+
+        private CachedGrader(final GradingSystem gradingSystem, final Object grader) {
+            this.gradingSystem = gradingSystem;
+            this.grader = grader;
+        }
+    }
+
     private final GradingSystemRegistry registry;
+    private final GraderOptions options;
+    private final Map<GraderKind, Map<String, CachedGrader>> graderCache;
 
     public GraderFactory(final GradingSystemRegistry registry) {
+        this(registry, GraderOptions.defaults());
+    }
+
+    public GraderFactory(final GradingSystemRegistry registry, final GraderOptions options) {
         Objects.requireNonNull(registry, "grading system registry must not be null");
+        Objects.requireNonNull(options, "grader options must not be null");
 
         this.registry = registry;
+        this.options = options;
+        this.graderCache = new EnumMap<>(GraderKind.class);
+        for (GraderKind kind : GraderKind.values()) {
+            graderCache.put(kind, new ConcurrentHashMap<>());
+        }
     }
 
-    public Grader<Number> createNumberGrader(final String gradingSystemId) throws GradingSystemNotFoundException {
-        return new NumberGrader(registry.lookupSystem(gradingSystemId)
-                .orElseThrow(() -> new GradingSystemNotFoundException(gradingSystemId)), registry);
+    public GraderOptions getOptions() {
+        return options;
+    }
+
+    public NumberGrader createNumberGrader(final String gradingSystemId) throws GradingSystemNotFoundException {
+        return cachedGrader(GraderKind.NUMBER, gradingSystemId,
+                gradingSystem -> new NumberGrader(gradingSystem, registry, options));
     }
 
     public Grader<Collection<Number>> createNumberAverageGrader(final String gradingSystemId) throws GradingSystemNotFoundException {
-        return new NumberAverageGrader(registry.lookupSystem(gradingSystemId)
-                .orElseThrow(() -> new GradingSystemNotFoundException(gradingSystemId)), registry);
+        return cachedGrader(GraderKind.NUMBER_AVERAGE, gradingSystemId,
+                gradingSystem -> new NumberAverageGrader(gradingSystem, registry, options));
     }
 
     public Grader<Collection<GradeValue>> createGradeValueAverageGrader(final String gradingSystemId) throws GradingSystemNotFoundException {
-        return new GradeValueAverageGrader(registry.lookupSystem(gradingSystemId)
-                .orElseThrow(() -> new GradingSystemNotFoundException(gradingSystemId)), registry);
+        return cachedGrader(GraderKind.GRADE_VALUE_AVERAGE, gradingSystemId,
+                gradingSystem -> new GradeValueAverageGrader(gradingSystem, registry, options));
     }
 
     public Grader<Collection<Grade>> createGradeWeightedAverageGrader(final String gradingSystemId) throws GradingSystemNotFoundException {
-        return new GradeWeightedAverageGrader(registry.lookupSystem(gradingSystemId)
-                .orElseThrow(() -> new GradingSystemNotFoundException(gradingSystemId)), registry);
+        return cachedGrader(GraderKind.GRADE_WEIGHTED_AVERAGE, gradingSystemId,
+                gradingSystem -> new GradeWeightedAverageGrader(gradingSystem, registry, options));
+    }
+
+    /**
+     * Removes all cached graders.
+     */
+    public void clearCache() {
+        graderCache.values().forEach(Map::clear);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <G> G cachedGrader(final GraderKind kind, final String gradingSystemId,
+                               final Function<GradingSystem, G> graderCreator) throws GradingSystemNotFoundException {
+
+        GradingSystem gradingSystem = registry.lookupSystem(gradingSystemId).orElse(null);
+        if (Objects.isNull(gradingSystem) || Objects.isNull(gradingSystemId)) {
+            if (Objects.nonNull(gradingSystemId)) {
+                graderCache.get(kind).remove(gradingSystemId);
+            }
+            throw new GradingSystemNotFoundException(gradingSystemId);
+        }
+
+        Map<String, CachedGrader> cache = graderCache.get(kind);
+        CachedGrader cached = cache.get(gradingSystemId);
+        if (Objects.isNull(cached) || cached.gradingSystem != gradingSystem) {
+            cached = new CachedGrader(gradingSystem, graderCreator.apply(gradingSystem));
+            cache.put(gradingSystemId, cached);
+        }
+
+        return (G) cached.grader;
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.grader;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Immutable options controlling how graders produce grade values.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class GraderOptions {
+
+    private static final GraderOptions DEFAULTS = new GraderOptions(false, false, Integer.MAX_VALUE, null);
+
+    private final boolean snapToRange;
+    private final boolean fixedPoint;
+    private final int parallelThreshold;
+    private final ForkJoinPool forkJoinPool;
+
+    private GraderOptions(final boolean snapToRange, final boolean fixedPoint, final int parallelThreshold,
+                          final ForkJoinPool forkJoinPool) {
+        this.snapToRange = snapToRange;
+        this.fixedPoint = fixedPoint;
+        this.parallelThreshold = parallelThreshold;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Getter of default options (exact numeric values using {@link java.math.BigDecimal} arithmetic, sequential
+     * aggregation).
+     *
+     * @return default options
+     */
+    public static GraderOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Getter of if graders return the shared grade value of the matching range (numeric value snapped to the
+     * range's effective mid value) instead of a new grade value holding the exact numeric value.
+     *
+     * @return true if grade values are snapped to range; otherwise false
+     */
+    public boolean isSnapToRange() {
+        return snapToRange;
+    }
+
+    public GraderOptions withSnapToRange(final boolean snapToRange) {
+        return new GraderOptions(snapToRange, fixedPoint, parallelThreshold, forkJoinPool);
+    }
+
+    /**
+     * Getter of if graders compute averages with fixed point arithmetic (values held as longs scaled by 10^9,
+     * see {@link com.dryxtech.grade.util.FixedPointMath}) instead of {@link java.math.BigDecimal} arithmetic.
+     * Averages are then rounded half even to 9 decimal places.
+     *
+     * @return true if fixed point arithmetic is used; otherwise false
+     */
+    public boolean isFixedPoint() {
+        return fixedPoint;
+    }
+
+    public GraderOptions withFixedPoint(final boolean fixedPoint) {
+        return new GraderOptions(snapToRange, fixedPoint, parallelThreshold, forkJoinPool);
+    }
+
+    /**
+     * Getter of minimum number of values for graders to aggregate in parallel. Values are split into chunks whose
+     * partial sums are combined in value order, so results are identical to sequential aggregation.
+     *
+     * @return parallel threshold; {@link Integer#MAX_VALUE} if aggregation is always sequential
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public GraderOptions withParallelThreshold(final int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new IllegalArgumentException("parallel threshold must be positive");
+        }
+        return new GraderOptions(snapToRange, fixedPoint, parallelThreshold, forkJoinPool);
+    }
+
+    /**
+     * Getter of pool used for parallel aggregation.
+     *
+     * @return fork/join pool; the common pool if none was set
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return Objects.isNull(forkJoinPool) ? ForkJoinPool.commonPool() : forkJoinPool;
+    }
+
+    public GraderOptions withForkJoinPool(final ForkJoinPool forkJoinPool) {
+        return new GraderOptions(snapToRange, fixedPoint, parallelThreshold, forkJoinPool);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(snapToRange, fixedPoint, parallelThreshold, forkJoinPool);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        } else if (!(o instanceof GraderOptions)) {
+            return false;
+        }
+
+        GraderOptions options = (GraderOptions) o;
+
+        return this.snapToRange == options.snapToRange &&
+                this.fixedPoint == options.fixedPoint &&
+                this.parallelThreshold == options.parallelThreshold &&
+                Objects.equals(this.forkJoinPool, options.forkJoinPool);
+    }
+
+    @Override
+    public String toString() {
+        return "GraderOptions{" +
+                "snapToRange=" + snapToRange +
+                ", fixedPoint=" + fixedPoint +
+                ", parallelThreshold=" + parallelThreshold +
+                ", forkJoinPool=" + forkJoinPool +
+                '}';
+    }
+}
@@ -20,7 +20,9 @@ import com.dryxtech.grade.api.GradeException;
 import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.GradingSystem;
 import com.dryxtech.grade.system.GradingSystemRegistry;
-import com.dryxtech.grade.util.GradeMathUtil;
+import com.dryxtech.grade.util.FixedPointAccumulator;
+import com.dryxtech.grade.util.FixedPointMath;
+import com.dryxtech.grade.util.GradeAccumulator;
 
 import java.math.BigDecimal;
 import java.util.Collection;
@@ -42,11 +44,28 @@ public class NumberAverageGrader extends AbstractGrader<Collection<Number>> {
         super(gradingSystem, registry);
     }
 
+    public NumberAverageGrader(final GradingSystem gradingSystem, final GradingSystemRegistry registry,
+                              final GraderOptions options) {
+        super(gradingSystem, registry, options);
+    }
+
     @Override
     public GradeValue grade(final Collection<Number> values) throws GradeException {
         Objects.requireNonNull(values, "values must not be null");
 
-        BigDecimal numericValue = GradeMathUtil.calculateAverage(values)
+        if (options.isFixedPoint()) {
+            FixedPointAccumulator accumulator = accumulate(values, FixedPointAccumulator::new,
+                    FixedPointAccumulator::add, FixedPointAccumulator::combine);
+            long scaledAverage = accumulator.getScaledAverage();
+            if (scaledAverage != FixedPointMath.NOT_REPRESENTABLE) {
+                return getScaledGradeValue(scaledAverage);
+            }
+            return getGradeValue(accumulator.getAverage()
+                    .orElseThrow(() -> new GradeException("failed to get average of number values")));
+        }
+
+        BigDecimal numericValue = accumulate(values, GradeAccumulator::new, GradeAccumulator::add, GradeAccumulator::combine)
+                .getAverage()
                 .orElseThrow(() -> new GradeException("failed to get average of number values"));
 
         return getGradeValue(numericValue);
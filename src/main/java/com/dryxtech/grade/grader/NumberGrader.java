@@ -16,16 +16,32 @@
 
 package com.dryxtech.grade.grader;
 
+import com.dryxtech.grade.api.Grade;
 import com.dryxtech.grade.api.GradeException;
 import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.GradingSystem;
+import com.dryxtech.grade.model.BasicGradeValue;
+import com.dryxtech.grade.model.GradeBuilder;
+import com.dryxtech.grade.model.GradeDistribution;
+import com.dryxtech.grade.model.GradeValueRangeIndex;
 import com.dryxtech.grade.system.GradingSystemRegistry;
+import com.dryxtech.grade.util.GradeStatistics;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
 
 /**
  * Grader class that determines grade value by grader's grading system.
+ * Primitive double and long values of an indexed grading system (basic or compiled) are classified
+ * without converting the value to a string or {@link BigDecimal} first.
+ * When snapping to range (see {@link GraderOptions}), no grade value is allocated per call.
  *
  * @author Drew Griffin
  * @since 1.0
@@ -36,14 +52,294 @@ public class NumberGrader extends AbstractGrader<Number> {
         super(gradingSystem);
     }
 
+    /**
+     * Constructs grader that resolves values through the registry's compiled form of the grading system (if any).
+     *
+     * @param gradingSystem grading system used for grading
+     * @param registry registry of grading systems
+     */
     public NumberGrader(final GradingSystem gradingSystem, final GradingSystemRegistry registry) {
-        super(gradingSystem, registry);
+        super(compiledOrSelf(gradingSystem, registry), registry);
+    }
+
+    /**
+     * Constructs grader that resolves values through the registry's compiled form of the grading system (if any).
+     *
+     * @param gradingSystem grading system used for grading
+     * @param registry registry of grading systems
+     * @param options grader options
+     */
+    public NumberGrader(final GradingSystem gradingSystem, final GradingSystemRegistry registry,
+                        final GraderOptions options) {
+        super(compiledOrSelf(gradingSystem, registry), registry, options);
+    }
+
+    private static GradingSystem compiledOrSelf(final GradingSystem gradingSystem, final GradingSystemRegistry registry) {
+        if (Objects.isNull(gradingSystem) || Objects.isNull(registry)) {
+            return gradingSystem;
+        }
+        return registry.lookupCompiledSystem(gradingSystem).map(GradingSystem.class::cast).orElse(gradingSystem);
+    }
+
+    /**
+     * Method to classify a double value into a range of the grading system.
+     *
+     * @param numericValue numeric value to classify
+     * @return position of range in grading system's range index (0 is the lowest range);
+     * otherwise -1 if no range contains the value or the grading system is not indexed
+     */
+    public int classify(final double numericValue) {
+        if (Objects.nonNull(compiledSystem)) {
+            return compiledSystem.indexOf(numericValue);
+        }
+        return Objects.isNull(rangeIndex) ? -1 : rangeIndex.indexOf(numericValue);
+    }
+
+    /**
+     * Method to classify a long value into a range of the grading system.
+     *
+     * @param numericValue numeric value to classify
+     * @return position of range in grading system's range index (0 is the lowest range);
+     * otherwise -1 if no range contains the value or the grading system is not indexed
+     */
+    public int classify(final long numericValue) {
+        if (Objects.nonNull(compiledSystem)) {
+            return compiledSystem.indexOf(numericValue);
+        }
+        return Objects.isNull(rangeIndex) ? -1 : rangeIndex.indexOf(numericValue);
+    }
+
+    /**
+     * Method to grade a double value.
+     *
+     * @param numericValue numeric value to grade
+     * @return grade value
+     * @throws GradeException if no range contains the value
+     */
+    public GradeValue gradeDouble(final double numericValue) throws GradeException {
+
+        if (Objects.isNull(rangeIndex)) {
+            return getGradeValue(BigDecimal.valueOf(numericValue));
+        }
+
+        return toGradeValue(classify(numericValue), numericValue);
+    }
+
+    /**
+     * Method to grade a long value.
+     *
+     * @param numericValue numeric value to grade
+     * @return grade value
+     * @throws GradeException if no range contains the value
+     */
+    public GradeValue gradeLong(final long numericValue) throws GradeException {
+
+        if (Objects.isNull(rangeIndex)) {
+            return getGradeValue(BigDecimal.valueOf(numericValue));
+        }
+
+        return toGradeValue(classify(numericValue), numericValue);
+    }
+
+    /**
+     * Method to grade a fixed point value.
+     *
+     * @param scaledValue numeric value scaled by 10^9 (see {@link com.dryxtech.grade.util.FixedPointMath})
+     * @return grade value
+     * @throws GradeException if no range contains the value
+     */
+    public GradeValue gradeScaled(final long scaledValue) throws GradeException {
+        return getScaledGradeValue(scaledValue);
+    }
+
+    /**
+     * Method to grade an array of double values.
+     *
+     * @param numericValues numeric values to grade
+     * @return grade values in the same order as numeric values
+     * @throws GradeException if no range contains one of the values
+     */
+    public GradeValue[] gradeDoubles(final double[] numericValues) throws GradeException {
+        Objects.requireNonNull(numericValues, "numeric values must not be null");
+
+        GradeValue[] gradeValues = new GradeValue[numericValues.length];
+        for (int i = 0; i < numericValues.length; i++) {
+            gradeValues[i] = gradeDouble(numericValues[i]);
+        }
+        return gradeValues;
+    }
+
+    /**
+     * Method to grade an array of long values.
+     *
+     * @param numericValues numeric values to grade
+     * @return grade values in the same order as numeric values
+     * @throws GradeException if no range contains one of the values
+     */
+    public GradeValue[] gradeLongs(final long[] numericValues) throws GradeException {
+        Objects.requireNonNull(numericValues, "numeric values must not be null");
+
+        GradeValue[] gradeValues = new GradeValue[numericValues.length];
+        for (int i = 0; i < numericValues.length; i++) {
+            gradeValues[i] = gradeLong(numericValues[i]);
+        }
+        return gradeValues;
+    }
+
+    /**
+     * Method to count grade values per range of the grading system, in parallel when there are at least
+     * {@link GraderOptions#getParallelThreshold()} values.
+     *
+     * @param gradeValues grade values to count
+     * @return distribution of grade values
+     * @throws GradeException if the ranges of the grading system cannot be indexed
+     */
+    public GradeDistribution distribute(final Collection<? extends GradeValue> gradeValues) throws GradeException {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+
+        if (Objects.isNull(rangeIndex)) {
+            final GradeValueRangeIndex index;
+            try {
+                index = new GradeValueRangeIndex(gradingSystem.getRanges());
+            } catch (IllegalArgumentException ex) {
+                throw new GradeException(String.format("failed to index ranges of grading system %s",
+                        gradingSystem.getId()), ex);
+            }
+            return accumulate(gradeValues, () -> new GradeDistribution(index), GradeDistribution::add,
+                    GradeDistribution::merge);
+        }
+
+        return accumulate(gradeValues, () -> new GradeDistribution(rangeIndex),
+                (distribution, gradeValue) -> distribution.addIndex(classify(gradeValue.getNumericValue())),
+                GradeDistribution::merge);
+    }
+
+    /**
+     * Method to curve a cohort of grades and grade the curved values with the grading system.
+     * The statistics of the cohort are computed in one pass, and the grades are curved in a second pass, both in
+     * parallel when there are at least {@link GraderOptions#getParallelThreshold()} grades. Each curved grade is a
+     * new grade (of the type, description, timestamp, weight and references of the original grade) with a reference
+     * to its original grade under {@link GradeCurve#ORIGINAL_REFERENCE}.
+     *
+     * @param grades cohort of grades to curve
+     * @param curve  curve of raw values to curved values
+     * @return curved grades in the same order as grades
+     * @throws GradeException if a grade has no numeric value, or no range contains a curved value
+     */
+    public List<Grade> curve(final Collection<? extends Grade> grades, final GradeCurve curve) throws GradeException {
+        Objects.requireNonNull(grades, "grades must not be null");
+        Objects.requireNonNull(curve, "curve must not be null");
+
+        if (grades.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        GradeStatistics statistics = statistics(grades);
+        if (statistics.getCount() != grades.size()) {
+            throw new GradeException("failed to curve grades as a grade has no numeric value");
+        }
+
+        double[] sortedValues = null;
+        if (curve.getType() == GradeCurve.Type.PERCENTILE) {
+            sortedValues = grades.stream().mapToDouble(grade -> grade.getNumericValue().doubleValue()).toArray();
+            if (sortedValues.length < options.getParallelThreshold()) {
+                Arrays.sort(sortedValues);
+            } else {
+                Arrays.parallelSort(sortedValues);
+            }
+        }
+
+        DoubleUnaryOperator function = curve.bind(statistics, sortedValues);
+        try {
+            return accumulate(grades, ArrayList::new,
+                    (List<Grade> curvedGrades, Grade grade) -> curvedGrades.add(curveGrade(grade, function, curve.getScale())),
+                    (left, right) -> {
+                        left.addAll(right);
+                        return left;
+                    });
+        } catch (RuntimeException ex) {
+            // a parallel pass may rethrow the wrapper of curveGrade wrapped once more
+            for (Throwable cause = ex; Objects.nonNull(cause); cause = cause.getCause()) {
+                if (cause instanceof CurveException) {
+                    throw ((CurveException) cause).getCause();
+                }
+            }
+            throw ex;
+        }
+    }
+
+    private Grade curveGrade(final Grade grade, final DoubleUnaryOperator function, final int scale) {
+
+        BigDecimal curvedValue = BigDecimal.valueOf(function.applyAsDouble(grade.getNumericValue().doubleValue()))
+                .setScale(scale, RoundingMode.HALF_EVEN);
+
+        final GradeValue gradeValue;
+        try {
+            gradeValue = getGradeValue(curvedValue);
+        } catch (GradeException ex) {
+            // rethrown as the checked exception by curve
+            throw new CurveException(ex);
+        }
+
+        GradeBuilder builder = GradeBuilder.builder(true)
+                .type(grade.getType())
+                .description(grade.getDescription())
+                .extensions(grade.getExtensions())
+                .gradeValue(gradeValue)
+                .timestamp(grade.getTimestamp())
+                .references(grade.getReferences())
+                .reference(GradeCurve.ORIGINAL_REFERENCE, grade);
+        if (Objects.nonNull(grade.getWeight())) {
+            builder.weight(grade.getWeight());
+        }
+
+        return builder.build();
+    }
+
+    private GradeValue toGradeValue(final int index, final double numericValue) throws GradeException {
+        if (index < 0) {
+            throw noRangeFound(numericValue);
+        }
+        GradeValue rangeGradeValue = getRangeGradeValue(index);
+        return Objects.nonNull(rangeGradeValue) ? rangeGradeValue :
+                new BasicGradeValue(BigDecimal.valueOf(numericValue), rangeIndex.get(index).getTextValue(), gradingSystem.getId());
+    }
+
+    private GradeValue toGradeValue(final int index, final long numericValue) throws GradeException {
+        if (index < 0) {
+            throw noRangeFound(numericValue);
+        }
+        GradeValue rangeGradeValue = getRangeGradeValue(index);
+        return Objects.nonNull(rangeGradeValue) ? rangeGradeValue :
+                new BasicGradeValue(BigDecimal.valueOf(numericValue), rangeIndex.get(index).getTextValue(), gradingSystem.getId());
     }
 
     @Override
     public GradeValue grade(final Number numericValue) throws GradeException {
         Objects.requireNonNull(numericValue, "numeric value must not be null");
 
+        if (numericValue instanceof Long || numericValue instanceof Integer ||
+                numericValue instanceof Short || numericValue instanceof Byte) {
+            return gradeLong(numericValue.longValue());
+        } else if (numericValue instanceof Double && Double.isFinite(numericValue.doubleValue())) {
+            return gradeDouble(numericValue.doubleValue());
+        }
+
         return getGradeValue(new BigDecimal(numericValue.toString()));
     }
+
+    /**
+     * Unchecked wrapper of the grade exception of a curved grade, so that curve rethrows only its own failures.
+     */
+    private static final class CurveException extends RuntimeException {
+
+        private CurveException(final GradeException cause) {
+            super(cause.getMessage(), cause);
+        }
+
+        @Override
+        public synchronized GradeException getCause() {
+            return (GradeException) super.getCause();
+        }
+    }
 }
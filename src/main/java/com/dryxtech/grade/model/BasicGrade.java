@@ -96,7 +96,12 @@ public class BasicGrade implements Grade {
 
     @Override
     public int compareTo(GradeValue o) {
-        return new BasicGradeValue(numericValue, textValue, gradingSystem).compareTo(o);
+        if (Objects.isNull(o)) {
+            return -1;
+        } else if (Objects.nonNull(numericValue) && Objects.nonNull(o.getNumericValue())) {
+            return numericValue.compareTo(o.getNumericValue());
+        }
+        return 0;
     }
 
     @Override
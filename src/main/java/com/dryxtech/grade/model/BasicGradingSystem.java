@@ -20,6 +20,7 @@ import com.dryxtech.grade.api.GradeValueRange;
 import com.dryxtech.grade.api.GradingSystem;
 import com.dryxtech.grade.api.PerformanceLevel;
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 
@@ -50,6 +51,7 @@ public class BasicGradingSystem implements GradingSystem {
     protected final String variant;
     protected List<GradeValueRange> ranges;
     protected transient Map<String, GradeValueRange> rangesByTextValue;
+    protected transient GradeValueRangeIndex rangeIndex;
 
     @JsonCreator
     public BasicGradingSystem(@JsonProperty("id") String id,
@@ -119,22 +121,18 @@ public class BasicGradingSystem implements GradingSystem {
 
     @Override
     public Optional<String> getTextValue(final BigDecimal numericValue) {
-        if (Objects.nonNull(ranges)) {
-            return ranges.stream()
-                    .filter(range -> range.inRange(numericValue))
-                    .map(GradeValueRange::getTextValue)
-                    .findFirst();
-        }
-        return Optional.empty();
+        return findRange(numericValue).map(GradeValueRange::getTextValue);
     }
 
     @Override
     public Optional<PerformanceLevel> getPerformanceLevel(BigDecimal numericValue) {
-        if (Objects.nonNull(ranges)) {
-            return ranges.stream()
-                    .filter(range -> range.inRange(numericValue))
-                    .map(GradeValueRange::getPerformanceLevel)
-                    .findFirst();
+        return findRange(numericValue).map(GradeValueRange::getPerformanceLevel);
+    }
+
+    @Override
+    public Optional<GradeValueRange> findRange(final BigDecimal numericValue) {
+        if (Objects.nonNull(rangeIndex)) {
+            return rangeIndex.lookup(numericValue);
         }
         return Optional.empty();
     }
@@ -151,6 +149,12 @@ public class BasicGradingSystem implements GradingSystem {
         this.ranges = new ArrayList<>(ranges);
         this.rangesByTextValue = new HashMap<>();
         ranges.forEach(range -> this.rangesByTextValue.put(range.getTextValue().toUpperCase(), range));
+        this.rangeIndex = new GradeValueRangeIndex(ranges);
+    }
+
+    @JsonIgnore
+    public GradeValueRangeIndex getRangeIndex() {
+        return rangeIndex;
     }
 
     public Optional<GradeValueRange> getRange(String textValue) {
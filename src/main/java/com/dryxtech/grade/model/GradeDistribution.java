@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.model;
+
+import com.dryxtech.grade.api.GradeValue;
+import com.dryxtech.grade.api.GradeValueRange;
+import com.dryxtech.grade.api.PerformanceLevel;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collector;
+
+/**
+ * A distribution of grade values over the ranges of a grading system.
+ * Each value is classified into its range through a {@link GradeValueRangeIndex} and counted in a counter per range
+ * position, so a distribution is built in one pass without sorting. Values no range contains are counted as unmatched.
+ * Distributions of the same ranges can be merged (see {@link #collector(GradeValueRangeIndex)} for parallel streams).
+ * <p>
+ * Instances are not thread safe.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class GradeDistribution {
+
+    private final GradeValueRangeIndex rangeIndex;
+    private final long[] counts;
+    private long unmatchedCount;
+    private long totalCount;
+
+    public GradeDistribution(final GradeValueRangeIndex rangeIndex) {
+        Objects.requireNonNull(rangeIndex, "range index must not be null");
+        this.rangeIndex = rangeIndex;
+        this.counts = new long[rangeIndex.size()];
+    }
+
+    /**
+     * Creates a collector of grade values into a distribution, merging partial distributions of parallel streams.
+     *
+     * @param rangeIndex range index to classify grade values with
+     * @return collector of grade values
+     */
+    public static Collector<GradeValue, GradeDistribution, GradeDistribution> collector(final GradeValueRangeIndex rangeIndex) {
+        Objects.requireNonNull(rangeIndex, "range index must not be null");
+        return Collector.of(() -> new GradeDistribution(rangeIndex), GradeDistribution::add, GradeDistribution::merge,
+                Collector.Characteristics.UNORDERED, Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Method to count a value by the position of its range.
+     *
+     * @param index position of range in range index; a negative position counts the value as unmatched
+     * @return this distribution
+     */
+    public GradeDistribution addIndex(final int index) {
+
+        if (index < 0) {
+            unmatchedCount++;
+        } else {
+            counts[index]++;
+        }
+
+        totalCount++;
+        return this;
+    }
+
+    /**
+     * Method to count a grade value by its numeric value.
+     *
+     * @param gradeValue grade value to count
+     * @return this distribution
+     */
+    public GradeDistribution add(final GradeValue gradeValue) {
+        Objects.requireNonNull(gradeValue, "grade value must not be null");
+        return addIndex(rangeIndex.indexOf(gradeValue.getNumericValue()));
+    }
+
+    public GradeDistribution add(final BigDecimal numericValue) {
+        return addIndex(rangeIndex.indexOf(numericValue));
+    }
+
+    public GradeDistribution add(final long numericValue) {
+        return addIndex(rangeIndex.indexOf(numericValue));
+    }
+
+    public GradeDistribution add(final double numericValue) {
+        return addIndex(rangeIndex.indexOf(numericValue));
+    }
+
+    public GradeDistribution addAll(final Collection<? extends GradeValue> gradeValues) {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+
+        for (GradeValue gradeValue : gradeValues) {
+            add(gradeValue);
+        }
+
+        return this;
+    }
+
+    /**
+     * Method to add the counts of another distribution of the same ranges to this distribution.
+     *
+     * @param other distribution to merge
+     * @return this distribution
+     * @throws IllegalArgumentException if other distribution is of different ranges
+     */
+    public GradeDistribution merge(final GradeDistribution other) {
+        Objects.requireNonNull(other, "distribution must not be null");
+
+        if (other.rangeIndex != rangeIndex && !other.rangeIndex.getRanges().equals(rangeIndex.getRanges())) {
+            throw new IllegalArgumentException("distributions must be of the same grade value ranges");
+        }
+
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        unmatchedCount += other.unmatchedCount;
+        totalCount += other.totalCount;
+        return this;
+    }
+
+    public GradeValueRangeIndex getRangeIndex() {
+        return rangeIndex;
+    }
+
+    /**
+     * Getter of count of values in a range.
+     *
+     * @param index position of range in range index (0 is the lowest range)
+     * @return count of values
+     */
+    public long getCount(final int index) {
+        return counts[index];
+    }
+
+    /**
+     * Getter of counts of values per range.
+     *
+     * @return copy of counts indexed by position of range (0 is the lowest range)
+     */
+    public long[] getCounts() {
+        return Arrays.copyOf(counts, counts.length);
+    }
+
+    /**
+     * Getter of count of values that no range contains.
+     *
+     * @return count of unmatched values
+     */
+    public long getUnmatchedCount() {
+        return unmatchedCount;
+    }
+
+    /**
+     * Getter of count of all values (including unmatched values).
+     *
+     * @return count of values
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Getter of count of values in ranges of a performance level.
+     *
+     * @param performanceLevel performance level
+     * @return count of values
+     */
+    public long getCount(final PerformanceLevel performanceLevel) {
+
+        long count = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (rangeIndex.get(i).getPerformanceLevel() == performanceLevel) {
+                count += counts[i];
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Create a map of the distribution of values per each performance level
+     * note: order of the result map values is the order of performance levels (top to none)
+     *
+     * @return unmodifiable map of counts per performance level with values
+     */
+    public Map<PerformanceLevel, Long> getPerformanceLevelDistribution() {
+
+        Map<PerformanceLevel, Long> distribution = new EnumMap<>(PerformanceLevel.class);
+        for (int i = 0; i < counts.length; i++) {
+            PerformanceLevel performanceLevel = rangeIndex.get(i).getPerformanceLevel();
+            if (counts[i] > 0 && Objects.nonNull(performanceLevel)) {
+                distribution.merge(performanceLevel, counts[i], Long::sum);
+            }
+        }
+
+        return Collections.unmodifiableMap(distribution);
+    }
+
+    /**
+     * Create a map of the distribution of values per each range text value
+     * note: order of the result map values is hi-to-low based on range, the same as
+     * {@link com.dryxtech.grade.util.GradeMathUtil#calculateGradeDistribution(Collection)}
+     *
+     * @return map of counts per text value with values
+     */
+    public Map<String, Integer> toMap() {
+
+        Map<String, Integer> distribution = new LinkedHashMap<>();
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] > 0) {
+                GradeValueRange range = rangeIndex.get(i);
+                distribution.merge(range.getTextValue(), Math.toIntExact(counts[i]), Integer::sum);
+            }
+        }
+
+        return distribution;
+    }
+
+    @Override
+    public String toString() {
+        return "GradeDistribution{" +
+                "counts=" + toMap() +
+                ", unmatchedCount=" + unmatchedCount +
+                ", totalCount=" + totalCount +
+                '}';
+    }
+}
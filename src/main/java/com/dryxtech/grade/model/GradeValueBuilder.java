@@ -57,7 +57,9 @@ public class GradeValueBuilder {
     }
 
     public GradeValueBuilder numericValue(final Number numericValue) {
-        if (Objects.nonNull(numericValue)) {
+        if (numericValue instanceof BigDecimal) {
+            this.numericValue = (BigDecimal) numericValue;
+        } else if (Objects.nonNull(numericValue)) {
             this.numericValue = new BigDecimal(numericValue.toString());
         } else {
             this.numericValue = null;
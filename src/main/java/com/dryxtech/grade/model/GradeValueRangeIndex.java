@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.model;
+
+import com.dryxtech.grade.api.GradeValueRange;
+import com.dryxtech.grade.util.FixedPointMath;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An immutable index of grade value ranges sorted from lowest to highest value.
+ * Ranges are validated on construction to not overlap (gaps between ranges are allowed),
+ * so a numeric value can be resolved to its range by binary search.
+ * Range bounds are also kept as primitives so long, fixed point and double values can be resolved without
+ * creating a {@link BigDecimal} per lookup.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class GradeValueRangeIndex {
+
+    private static final Comparator<GradeValueRange> LOW_TO_HIGH = Comparator
+            .comparing(GradeValueRange::getStartValue)
+            .thenComparing(range -> !range.getStartValueInclusive())
+            .thenComparing(GradeValueRange::getEndValue)
+            .thenComparing(GradeValueRange::getEndValueInclusive);
+
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    private final GradeValueRange[] ranges;
+    private final boolean contiguous;
+    private final long[] longLows;
+    private final long[] longHighs;
+    private final long[] scaledLows;
+    private final long[] scaledHighs;
+    private final double[] doubleLows;
+    private final double[] doubleHighs;
+    private final boolean[] lowInclusive;
+    private final boolean[] highInclusive;
+    private final boolean doubleExact;
+
+    public GradeValueRangeIndex(final Collection<? extends GradeValueRange> ranges) {
+        Objects.requireNonNull(ranges, "ranges must not be null");
+
+        GradeValueRange[] sortedRanges = ranges.toArray(new GradeValueRange[0]);
+        for (GradeValueRange range : sortedRanges) {
+            Objects.requireNonNull(range, "range must not be null");
+            Objects.requireNonNull(range.getStartValue(), "range start value must not be null");
+            Objects.requireNonNull(range.getEndValue(), "range end value must not be null");
+        }
+        Arrays.sort(sortedRanges, LOW_TO_HIGH);
+
+        boolean hasGaps = false;
+        for (int i = 1; i < sortedRanges.length; i++) {
+            GradeValueRange lower = sortedRanges[i - 1];
+            GradeValueRange upper = sortedRanges[i];
+            int boundary = upper.getStartValue().compareTo(lower.getEndValue());
+
+            if ((boundary < 0) || ((boundary == 0) && upper.getStartValueInclusive() && lower.getEndValueInclusive())) {
+                throw new IllegalArgumentException(String.format("grade value ranges must not overlap: %s and %s",
+                        lower.getTextValue(), upper.getTextValue()));
+            }
+
+            if ((boundary > 0) || (!upper.getStartValueInclusive() && !lower.getEndValueInclusive())) {
+                hasGaps = true;
+            }
+        }
+
+        this.ranges = sortedRanges;
+        this.contiguous = !hasGaps;
+        this.longLows = new long[sortedRanges.length];
+        this.longHighs = new long[sortedRanges.length];
+        this.scaledLows = new long[sortedRanges.length];
+        this.scaledHighs = new long[sortedRanges.length];
+        this.doubleLows = new double[sortedRanges.length];
+        this.doubleHighs = new double[sortedRanges.length];
+        this.lowInclusive = new boolean[sortedRanges.length];
+        this.highInclusive = new boolean[sortedRanges.length];
+
+        boolean exact = true;
+        for (int i = 0; i < sortedRanges.length; i++) {
+            GradeValueRange range = sortedRanges[i];
+            lowInclusive[i] = range.getStartValueInclusive();
+            highInclusive[i] = range.getEndValueInclusive();
+            doubleLows[i] = range.getStartValue().doubleValue();
+            doubleHighs[i] = range.getEndValue().doubleValue();
+            exact = exact && isDoubleExact(range.getStartValue(), doubleLows[i]) &&
+                    isDoubleExact(range.getEndValue(), doubleHighs[i]);
+
+            setUnitBounds(range, 0, longLows, longHighs, i);
+            setUnitBounds(range, FixedPointMath.SCALE, scaledLows, scaledHighs, i);
+        }
+        this.doubleExact = exact;
+    }
+
+    private void setUnitBounds(final GradeValueRange range, final int scale, final long[] lows, final long[] highs,
+                               final int i) {
+
+        // smallest and largest values of the given scale inside the range; an empty range keeps low > high
+        BigDecimal unit = BigDecimal.ONE.movePointLeft(scale);
+        BigDecimal low = lowInclusive[i] ? range.getStartValue().setScale(scale, RoundingMode.CEILING) :
+                range.getStartValue().setScale(scale, RoundingMode.FLOOR).add(unit);
+        BigDecimal high = highInclusive[i] ? range.getEndValue().setScale(scale, RoundingMode.FLOOR) :
+                range.getEndValue().setScale(scale, RoundingMode.CEILING).subtract(unit);
+        low = low.movePointRight(scale);
+        high = high.movePointRight(scale);
+
+        if (low.compareTo(LONG_MAX) > 0) {
+            lows[i] = Long.MAX_VALUE;
+            highs[i] = Long.MAX_VALUE - 1;
+        } else if (high.compareTo(LONG_MIN) < 0) {
+            lows[i] = Long.MIN_VALUE + 1;
+            highs[i] = Long.MIN_VALUE;
+        } else {
+            lows[i] = low.max(LONG_MIN).longValue();
+            highs[i] = high.min(LONG_MAX).longValue();
+        }
+    }
+
+    private static boolean isDoubleExact(final BigDecimal value, final double doubleValue) {
+        // a double value is graded as its shortest decimal form, which must round trip to the boundary
+        return Double.isFinite(doubleValue) && new BigDecimal(Double.toString(doubleValue)).compareTo(value) == 0;
+    }
+
+    /**
+     * Method to get the position of the range containing a numeric value.
+     *
+     * @param value numeric value to resolve
+     * @return position of range (0 is the lowest range); otherwise -1 if no range contains the value
+     */
+    public int indexOf(final BigDecimal value) {
+
+        if (Objects.isNull(value)) {
+            return -1;
+        }
+
+        int low = 0;
+        int high = ranges.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int result = compare(ranges[mid], value);
+            if (result < 0) {
+                high = mid - 1;
+            } else if (result > 0) {
+                low = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Method to get the position of the range containing a whole number value.
+     *
+     * @param value numeric value to resolve
+     * @return position of range (0 is the lowest range); otherwise -1 if no range contains the value
+     */
+    public int indexOf(final long value) {
+        return indexOf(longLows, longHighs, value);
+    }
+
+    /**
+     * Method to get the position of the range containing a fixed point value (see {@link FixedPointMath}).
+     *
+     * @param scaledValue numeric value scaled by 10^9
+     * @return position of range (0 is the lowest range); otherwise -1 if no range contains the value
+     */
+    public int indexOfScaled(final long scaledValue) {
+        return indexOf(scaledLows, scaledHighs, scaledValue);
+    }
+
+    private static int indexOf(final long[] lows, final long[] highs, final long value) {
+
+        int low = 0;
+        int high = lows.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (value < lows[mid]) {
+                high = mid - 1;
+            } else if (value > highs[mid]) {
+                low = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Method to get the position of the range containing a double value.
+     * The value is resolved the same as its decimal string form (see {@link Double#toString(double)}).
+     *
+     * @param value numeric value to resolve
+     * @return position of range (0 is the lowest range); otherwise -1 if value is not finite or no range contains the value
+     */
+    public int indexOf(final double value) {
+
+        if (!Double.isFinite(value)) {
+            return -1;
+        } else if (!doubleExact) {
+            return indexOf(BigDecimal.valueOf(value));
+        }
+
+        int low = 0;
+        int high = doubleLows.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if ((value < doubleLows[mid]) || ((value == doubleLows[mid]) && !lowInclusive[mid])) {
+                high = mid - 1;
+            } else if ((value > doubleHighs[mid]) || ((value == doubleHighs[mid]) && !highInclusive[mid])) {
+                low = mid + 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Method to get the range containing a numeric value.
+     *
+     * @param value numeric value to resolve
+     * @return optional containing range; otherwise empty if no range contains the value
+     */
+    public Optional<GradeValueRange> lookup(final BigDecimal value) {
+        int index = indexOf(value);
+        return (index < 0) ? Optional.empty() : Optional.of(ranges[index]);
+    }
+
+    /**
+     * Getter of range at a position.
+     *
+     * @param index position of range (0 is the lowest range)
+     * @return grade value range
+     */
+    public GradeValueRange get(final int index) {
+        return ranges[index];
+    }
+
+    /**
+     * Getter of number of indexed ranges.
+     *
+     * @return number of ranges
+     */
+    public int size() {
+        return ranges.length;
+    }
+
+    /**
+     * Getter of if the indexed ranges cover one continuous interval (no gaps between ranges).
+     *
+     * @return true if there are no gaps; otherwise false
+     */
+    public boolean isContiguous() {
+        return contiguous;
+    }
+
+    /**
+     * Getter of all indexed ranges.
+     *
+     * @return unmodifiable list of ranges from lowest to highest
+     */
+    public List<GradeValueRange> getRanges() {
+        return Collections.unmodifiableList(Arrays.asList(ranges));
+    }
+
+    private static int compare(final GradeValueRange range, final BigDecimal value) {
+
+        int start = value.compareTo(range.getStartValue());
+        if ((start < 0) || ((start == 0) && !range.getStartValueInclusive())) {
+            return -1;
+        }
+
+        int end = value.compareTo(range.getEndValue());
+        if ((end > 0) || ((end == 0) && !range.getEndValueInclusive())) {
+            return 1;
+        }
+
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return "GradeValueRangeIndex{" +
+                "ranges=" + Arrays.toString(ranges) +
+                ", contiguous=" + contiguous +
+                '}';
+    }
+}
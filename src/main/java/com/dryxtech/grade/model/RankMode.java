@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.model;
+
+/**
+ * The ways grades of the same numeric value share ranks.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public enum RankMode {
+
+    /**
+     * Tied grades share a rank and the next value takes the next rank (e.g. 1, 2, 2, 3).
+     */
+    DENSE,
+
+    /**
+     * Tied grades share a rank and the next value takes its position (e.g. 1, 2, 2, 4).
+     */
+    COMPETITION,
+
+    /**
+     * The percentile bucket of the competition rank, from 1 (top 1 percent) to 100 (e.g. 25, 50, 50, 100).
+     */
+    PERCENTILE
+}
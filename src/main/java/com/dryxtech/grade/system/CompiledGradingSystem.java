@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.system;
+
+import com.dryxtech.grade.api.GradeValueRange;
+import com.dryxtech.grade.api.GradingSystem;
+import com.dryxtech.grade.api.PerformanceLevel;
+import com.dryxtech.grade.model.BasicGradingSystem;
+import com.dryxtech.grade.model.GradeValueRangeIndex;
+import com.dryxtech.grade.util.FixedPointMath;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * A compiled form of a grading system whose range boundaries are aligned to a small bounded domain.
+ * The domain is split into equal buckets (e.g. 0..100 in steps of 1) and the range of every bucket is
+ * precomputed into a flat table, so resolving a numeric value inside the domain is an array access.
+ * Values outside the domain are resolved through the grading system's range index.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class CompiledGradingSystem implements GradingSystem {
+
+    public static final int MAX_TABLE_SIZE = 8192;
+
+    private final GradingSystem source;
+    private final GradeValueRangeIndex rangeIndex;
+    private final int scale;
+    private final long tableStartUnits;
+    private final BigDecimal tableStart;
+    private final BigDecimal tableEnd;
+    private final long unitsPerWhole;
+    private final long wholeStart;
+    private final long wholeEnd;
+    private final long scaledPerUnit;
+    private final int[] boundaryIndexes;
+    private final int[] bucketIndexes;
+
+    private CompiledGradingSystem(final GradingSystem source, final GradeValueRangeIndex rangeIndex, final int scale,
+                                  final BigDecimal tableStart, final BigDecimal tableEnd) {
+
+        this.source = source;
+        this.rangeIndex = rangeIndex;
+        this.scale = scale;
+        this.tableStart = tableStart;
+        this.tableEnd = tableEnd;
+        this.tableStartUnits = tableStart.movePointRight(scale).longValueExact();
+        this.unitsPerWhole = BigDecimal.ONE.movePointRight(scale).longValueExact();
+        this.wholeStart = tableStart.setScale(0, RoundingMode.CEILING).longValueExact();
+        this.wholeEnd = tableEnd.setScale(0, RoundingMode.FLOOR).longValueExact();
+        // fixed point values can only be read from the table when its units divide the fixed point unit
+        this.scaledPerUnit = (scale <= FixedPointMath.SCALE) ?
+                BigDecimal.ONE.movePointRight(FixedPointMath.SCALE - scale).longValueExact() : 0;
+
+        int buckets = tableEnd.movePointRight(scale).intValueExact() - (int) tableStartUnits;
+        this.boundaryIndexes = new int[buckets + 1];
+        this.bucketIndexes = new int[buckets];
+
+        for (int i = 0; i <= buckets; i++) {
+            long units = tableStartUnits + i;
+            boundaryIndexes[i] = rangeIndex.indexOf(BigDecimal.valueOf(units, scale));
+            if (i < buckets) {
+                // every boundary is a multiple of the bucket width, so any inner value resolves the whole bucket
+                bucketIndexes[i] = rangeIndex.indexOf(BigDecimal.valueOf((units * 2 + 1) * 5, scale + 1));
+            }
+        }
+    }
+
+    /**
+     * Compiles a grading system when its ranges qualify (non-overlapping ranges whose boundaries fit a
+     * domain of at most {@link #MAX_TABLE_SIZE} buckets). Open-ended outer ranges are allowed.
+     *
+     * @param gradingSystem grading system to compile
+     * @return optional containing compiled grading system; otherwise empty if ranges do not qualify
+     */
+    public static Optional<CompiledGradingSystem> compile(final GradingSystem gradingSystem) {
+        Objects.requireNonNull(gradingSystem, "grading system must not be null");
+
+        if (gradingSystem instanceof CompiledGradingSystem) {
+            return Optional.of((CompiledGradingSystem) gradingSystem);
+        }
+
+        final GradeValueRangeIndex rangeIndex;
+        try {
+            rangeIndex = (gradingSystem instanceof BasicGradingSystem) ?
+                    ((BasicGradingSystem) gradingSystem).getRangeIndex() :
+                    new GradeValueRangeIndex(gradingSystem.getRanges());
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            return Optional.empty();
+        }
+
+        if (Objects.isNull(rangeIndex) || rangeIndex.size() == 0) {
+            return Optional.empty();
+        }
+
+        TreeSet<BigDecimal> boundaries = new TreeSet<>();
+        rangeIndex.getRanges().forEach(range -> {
+            boundaries.add(range.getStartValue());
+            boundaries.add(range.getEndValue());
+        });
+
+        Optional<CompiledGradingSystem> compiled = compile(gradingSystem, rangeIndex, boundaries);
+        if (!compiled.isPresent() && boundaries.size() > 3) {
+            // leave open-ended outer ranges (e.g. 101..MAX) to the range index
+            boundaries.pollFirst();
+            boundaries.pollLast();
+            compiled = compile(gradingSystem, rangeIndex, boundaries);
+        }
+
+        return compiled;
+    }
+
+    private static Optional<CompiledGradingSystem> compile(final GradingSystem gradingSystem,
+                                                           final GradeValueRangeIndex rangeIndex,
+                                                           final TreeSet<BigDecimal> boundaries) {
+        int scale = 0;
+        for (BigDecimal boundary : boundaries) {
+            scale = Math.max(scale, boundary.stripTrailingZeros().scale());
+        }
+
+        BigDecimal domain = boundaries.last().subtract(boundaries.first()).movePointRight(scale);
+        if (domain.compareTo(BigDecimal.valueOf(MAX_TABLE_SIZE)) > 0 ||
+                boundaries.first().movePointRight(scale).abs().compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) >= 0 ||
+                boundaries.last().movePointRight(scale).abs().compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) >= 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new CompiledGradingSystem(gradingSystem, rangeIndex, scale,
+                boundaries.first(), boundaries.last()));
+    }
+
+    /**
+     * Method to get the position of the range containing a numeric value.
+     *
+     * @param numericValue numeric value to resolve
+     * @return position of range in range index; otherwise -1 if no range contains the value
+     */
+    public int indexOf(final BigDecimal numericValue) {
+
+        if (Objects.isNull(numericValue)) {
+            return -1;
+        }
+
+        if (numericValue.compareTo(tableStart) < 0 || numericValue.compareTo(tableEnd) > 0) {
+            return rangeIndex.indexOf(numericValue);
+        }
+
+        BigDecimal units = (scale == 0) ? numericValue : numericValue.movePointRight(scale);
+        BigDecimal floor = units.setScale(0, RoundingMode.FLOOR);
+        int bucket = (int) (floor.longValue() - tableStartUnits);
+
+        return (floor.compareTo(units) == 0) ? boundaryIndexes[bucket] : bucketIndexes[bucket];
+    }
+
+    /**
+     * Method to get the position of the range containing a whole number value.
+     *
+     * @param numericValue numeric value to resolve
+     * @return position of range in range index; otherwise -1 if no range contains the value
+     */
+    public int indexOf(final long numericValue) {
+
+        if (numericValue < wholeStart || numericValue > wholeEnd) {
+            return rangeIndex.indexOf(numericValue);
+        }
+
+        return boundaryIndexes[(int) (numericValue * unitsPerWhole - tableStartUnits)];
+    }
+
+    /**
+     * Method to get the position of the range containing a double value.
+     * The value is resolved the same as its decimal string form (see {@link Double#toString(double)}).
+     *
+     * @param numericValue numeric value to resolve
+     * @return position of range in range index; otherwise -1 if value is not finite or no range contains the value
+     */
+    public int indexOf(final double numericValue) {
+
+        // scaling a double to table units is inexact, so only whole number tables are read directly
+        if (scale != 0 || !(numericValue >= wholeStart && numericValue <= wholeEnd)) {
+            return rangeIndex.indexOf(numericValue);
+        }
+
+        double floor = Math.floor(numericValue);
+        int bucket = (int) ((long) floor - tableStartUnits);
+
+        return (floor == numericValue) ? boundaryIndexes[bucket] : bucketIndexes[bucket];
+    }
+
+    /**
+     * Method to get the position of the range containing a fixed point value (see {@link FixedPointMath}).
+     *
+     * @param scaledValue numeric value scaled by 10^9
+     * @return position of range in range index; otherwise -1 if no range contains the value
+     */
+    public int indexOfScaled(final long scaledValue) {
+
+        if (scaledPerUnit == 0) {
+            return rangeIndex.indexOfScaled(scaledValue);
+        }
+
+        long units = Math.floorDiv(scaledValue, scaledPerUnit);
+        long bucket = units - tableStartUnits;
+        if (bucket < 0 || bucket >= boundaryIndexes.length) {
+            return rangeIndex.indexOfScaled(scaledValue);
+        }
+
+        boolean boundary = Math.floorMod(scaledValue, scaledPerUnit) == 0;
+        if (!boundary && bucket == bucketIndexes.length) {
+            return rangeIndex.indexOfScaled(scaledValue);
+        }
+
+        return boundary ? boundaryIndexes[(int) bucket] : bucketIndexes[(int) bucket];
+    }
+
+    @Override
+    public Optional<GradeValueRange> findRange(final BigDecimal numericValue) {
+        int index = indexOf(numericValue);
+        return (index < 0) ? Optional.empty() : Optional.of(rangeIndex.get(index));
+    }
+
+    @Override
+    public Optional<String> getTextValue(final BigDecimal numericValue) {
+        return findRange(numericValue).map(GradeValueRange::getTextValue);
+    }
+
+    @Override
+    public Optional<PerformanceLevel> getPerformanceLevel(final BigDecimal numericValue) {
+        return findRange(numericValue).map(GradeValueRange::getPerformanceLevel);
+    }
+
+    @Override
+    public Optional<BigDecimal> getStartNumericValue(final String textValue) {
+        return source.getStartNumericValue(textValue);
+    }
+
+    @Override
+    public Optional<BigDecimal> getMidNumericValue(final String textValue) {
+        return source.getMidNumericValue(textValue);
+    }
+
+    @Override
+    public Optional<BigDecimal> getEndNumericValue(final String textValue) {
+        return source.getEndNumericValue(textValue);
+    }
+
+    @Override
+    public Collection<GradeValueRange> getRanges() {
+        return source.getRanges();
+    }
+
+    @Override
+    public String getId() {
+        return source.getId();
+    }
+
+    @Override
+    public String getDescription() {
+        return source.getDescription();
+    }
+
+    @Override
+    public String getCategory() {
+        return source.getCategory();
+    }
+
+    @Override
+    public String getType() {
+        return source.getType();
+    }
+
+    @Override
+    public String getName() {
+        return source.getName();
+    }
+
+    @Override
+    public String getVariant() {
+        return source.getVariant();
+    }
+
+    public GradingSystem getSource() {
+        return source;
+    }
+
+    public GradeValueRangeIndex getRangeIndex() {
+        return rangeIndex;
+    }
+
+    public int getTableSize() {
+        return bucketIndexes.length;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledGradingSystem{" +
+                "source=" + source +
+                ", tableStart=" + tableStart +
+                ", tableEnd=" + tableEnd +
+                ", scale=" + scale +
+                '}';
+    }
+}
@@ -18,26 +18,51 @@ package com.dryxtech.grade.system;
 
 import com.dryxtech.grade.api.GradeConverter;
 import com.dryxtech.grade.api.GradingSystem;
+import com.dryxtech.grade.system.converter.ChainedGradeConverter;
 import com.dryxtech.grade.util.IdentifierUtil;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A registry/store of grading systems
+ * Lookups read concurrent maps without locking; changes are serialized and bump the registry version,
+ * which caches built from the registry can compare to detect changes. Iteration goes through an
+ * immutable {@link RegistrySnapshot}.
+ * Converters are keyed by source then target grading system id. Every id registered as a system or
+ * converter endpoint gets a stable ordinal, and a dense converter matrix indexed by ordinals is rebuilt
+ * on demand after converter changes.
+ * Converters also form a graph: {@link #resolveConverter(String, String)} finds the route with the fewest
+ * conversions between two grading systems. Routes for all pairs are computed together and memoized until
+ * converters change.
  *
  * @author Drew Griffin
  * @since 1.0
  */
 public class GradingSystemRegistry {
 
+    private static final String CONVERTER_KEY_SEPARATOR = "->";
+
     private final String registryId;
     private final Map<String, GradingSystem> systemRegistry;
-    private final Map<String, GradeConverter> converterRegistry;
+    private final Map<String, Map<String, GradeConverter>> converterRegistry;
+    private final Map<String, CompiledGradingSystem> compiledSystemRegistry;
+    private final Map<String, Integer> ordinals;
+    private final AtomicLong version = new AtomicLong();
+    private final Object writeLock = new Object();
+    private volatile RegistrySnapshot snapshot;
+    private volatile GradeConverter[][] converterMatrix;
+    private volatile GradeConverter[][] routeMatrix;
 
     public GradingSystemRegistry() {
         this(IdentifierUtil.generateIdString(), null, null);
@@ -49,45 +74,336 @@ public class GradingSystemRegistry {
 
         this.registryId = registryId;
 
+        this.systemRegistry = new ConcurrentHashMap<>();
         if (Objects.nonNull(systemRegistry)) {
-            this.systemRegistry = Collections.synchronizedMap(systemRegistry);
-        } else {
-            this.systemRegistry = Collections.synchronizedMap(new HashMap<>());
+            systemRegistry.forEach((id, gradingSystem) -> {
+                if (Objects.nonNull(id) && Objects.nonNull(gradingSystem)) {
+                    this.systemRegistry.put(id, gradingSystem);
+                }
+            });
         }
 
+        this.ordinals = new ConcurrentHashMap<>();
+        this.systemRegistry.keySet().forEach(this::assignOrdinal);
+
+        this.converterRegistry = new ConcurrentHashMap<>();
         if (Objects.nonNull(converterRegistry)) {
-            this.converterRegistry = Collections.synchronizedMap(converterRegistry);
-        } else {
-            this.converterRegistry = Collections.synchronizedMap(new HashMap<>());
+            // converters keyed as "from->to"
+            converterRegistry.forEach((key, converter) -> {
+                int separator = Objects.isNull(key) ? -1 : key.indexOf(CONVERTER_KEY_SEPARATOR);
+                if (separator >= 0 && Objects.nonNull(converter)) {
+                    putConverter(key.substring(0, separator),
+                            key.substring(separator + CONVERTER_KEY_SEPARATOR.length()), converter);
+                }
+            });
         }
+
+        this.compiledSystemRegistry = new ConcurrentHashMap<>();
+        this.systemRegistry.forEach(this::compileSystem);
     }
 
     public Optional<GradingSystem> lookupSystem(String id) {
-        return Optional.ofNullable(systemRegistry.get(id));
+        return Objects.isNull(id) ? Optional.empty() : Optional.ofNullable(systemRegistry.get(id));
+    }
+
+    /**
+     * Lookup the compiled form of a registered grading system.
+     *
+     * @param id name the grading system is registered under
+     * @return optional containing compiled grading system; otherwise empty if not registered or not compilable
+     */
+    public Optional<CompiledGradingSystem> lookupCompiledSystem(String id) {
+        return Objects.isNull(id) ? Optional.empty() : Optional.ofNullable(compiledSystemRegistry.get(id));
+    }
+
+    /**
+     * Lookup the compiled form of a registered grading system instance.
+     *
+     * @param gradingSystem registered grading system
+     * @return optional containing compiled grading system; otherwise empty if not registered or not compilable
+     */
+    public Optional<CompiledGradingSystem> lookupCompiledSystem(final GradingSystem gradingSystem) {
+
+        CompiledGradingSystem compiled = Objects.isNull(gradingSystem.getId()) ? null :
+                compiledSystemRegistry.get(gradingSystem.getId());
+        if (Objects.nonNull(compiled) && compiled.getSource() == gradingSystem) {
+            return Optional.of(compiled);
+        }
+
+        return compiledSystemRegistry.values().stream()
+                .filter(c -> c.getSource() == gradingSystem)
+                .findFirst();
     }
 
     public Optional<GradeConverter> lookupConverter(String fromGradingSystemId, String toGradingSystemId) {
-        return Optional.ofNullable(converterRegistry.get(fromGradingSystemId + "->" + toGradingSystemId));
+        if (Objects.isNull(fromGradingSystemId) || Objects.isNull(toGradingSystemId)) {
+            return Optional.empty();
+        }
+
+        Map<String, GradeConverter> targets = converterRegistry.get(fromGradingSystemId);
+        return Objects.isNull(targets) ? Optional.empty() : Optional.ofNullable(targets.get(toGradingSystemId));
+    }
+
+    /**
+     * Lookup converter by grading system ordinals (see {@link #ordinalOf(String)}).
+     *
+     * @param fromOrdinal ordinal of source grading system
+     * @param toOrdinal ordinal of target grading system
+     * @return optional containing converter; otherwise empty if no converter is registered or an ordinal is unknown
+     */
+    public Optional<GradeConverter> lookupConverter(final int fromOrdinal, final int toOrdinal) {
+        GradeConverter[][] matrix = converterMatrix();
+        if (fromOrdinal < 0 || toOrdinal < 0 || fromOrdinal >= matrix.length || toOrdinal >= matrix.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(matrix[fromOrdinal][toOrdinal]);
+    }
+
+    /**
+     * Resolve converter between grading systems, either a directly registered converter or a chain of
+     * converters through intermediate grading systems using the fewest conversions.
+     *
+     * @param fromGradingSystemId source grading system id
+     * @param toGradingSystemId target grading system id
+     * @return optional containing converter; otherwise empty if no route exists
+     */
+    public Optional<GradeConverter> resolveConverter(String fromGradingSystemId, String toGradingSystemId) {
+        return resolveConverter(ordinalOf(fromGradingSystemId), ordinalOf(toGradingSystemId));
+    }
+
+    /**
+     * Resolve converter between grading systems by ordinals (see {@link #resolveConverter(String, String)}).
+     *
+     * @param fromOrdinal ordinal of source grading system
+     * @param toOrdinal ordinal of target grading system
+     * @return optional containing converter; otherwise empty if no route exists or an ordinal is unknown
+     */
+    public Optional<GradeConverter> resolveConverter(final int fromOrdinal, final int toOrdinal) {
+        GradeConverter[][] routes = routeMatrix();
+        if (fromOrdinal < 0 || toOrdinal < 0 || fromOrdinal >= routes.length || toOrdinal >= routes.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(routes[fromOrdinal][toOrdinal]);
+    }
+
+    /**
+     * Getter of the ordinal of a grading system id. Ordinals are assigned when an id is first registered as a
+     * grading system or converter endpoint and never change for the life of the registry.
+     *
+     * @param id grading system id
+     * @return ordinal; otherwise -1 if id has never been registered
+     */
+    public int ordinalOf(final String id) {
+        Integer ordinal = Objects.isNull(id) ? null : ordinals.get(id);
+        return Objects.isNull(ordinal) ? -1 : ordinal;
     }
 
     public void registerSystem(String id, final GradingSystem gradingSystem) {
-        systemRegistry.put(id, gradingSystem);
+        Objects.requireNonNull(id, "id must not be null");
+        Objects.requireNonNull(gradingSystem, "grading system must not be null");
+
+        synchronized (writeLock) {
+            // compile first so a grader created for the new system always finds its compiled form
+            compileSystem(id, gradingSystem);
+            systemRegistry.put(id, gradingSystem);
+            assignOrdinal(id);
+            changed();
+        }
     }
 
     public void registerConverter(String fromGradingSystemId, String toGradingSystemId, GradeConverter converter) {
-        converterRegistry.put(fromGradingSystemId + "->" + toGradingSystemId, converter);
+        Objects.requireNonNull(fromGradingSystemId, "from grading system id must not be null");
+        Objects.requireNonNull(toGradingSystemId, "to grading system id must not be null");
+        Objects.requireNonNull(converter, "converter must not be null");
+
+        synchronized (writeLock) {
+            putConverter(fromGradingSystemId, toGradingSystemId, converter);
+            convertersChanged();
+            changed();
+        }
     }
 
     public void unregisterSystem(String id) {
-        systemRegistry.remove(id);
+        if (Objects.isNull(id)) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            systemRegistry.remove(id);
+            compiledSystemRegistry.remove(id);
+            changed();
+        }
     }
 
     public void unregisterConverter(String fromGradingSystemId, String toGradingSystemId) {
-        systemRegistry.remove(fromGradingSystemId + "->" + toGradingSystemId);
+        if (Objects.isNull(fromGradingSystemId) || Objects.isNull(toGradingSystemId)) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            Map<String, GradeConverter> targets = converterRegistry.get(fromGradingSystemId);
+            if (Objects.nonNull(targets)) {
+                targets.remove(toGradingSystemId);
+                if (targets.isEmpty()) {
+                    converterRegistry.remove(fromGradingSystemId);
+                }
+            }
+            convertersChanged();
+            changed();
+        }
     }
 
+    /**
+     * Getter of registered grading systems.
+     *
+     * @return unmodifiable grading systems of the current snapshot (not a live view)
+     */
     public Collection<GradingSystem> getRegisteredSystems() {
-        return systemRegistry.values();
+        return snapshot().getSystems().values();
+    }
+
+    /**
+     * Getter of registry version. The version is incremented on every change to registered systems or converters.
+     *
+     * @return registry version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Getter of a consistent point-in-time view of the registry.
+     * Snapshots are cached until the registry changes.
+     *
+     * @return registry snapshot
+     */
+    public RegistrySnapshot snapshot() {
+
+        RegistrySnapshot current = snapshot;
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+
+        synchronized (writeLock) {
+            if (Objects.isNull(snapshot)) {
+                snapshot = new RegistrySnapshot(registryId, version.get(), systemRegistry);
+            }
+            return snapshot;
+        }
+    }
+
+    private GradeConverter[][] converterMatrix() {
+
+        GradeConverter[][] matrix = converterMatrix;
+        if (Objects.nonNull(matrix)) {
+            return matrix;
+        }
+
+        synchronized (writeLock) {
+            if (Objects.isNull(converterMatrix)) {
+                GradeConverter[][] built = new GradeConverter[ordinals.size()][ordinals.size()];
+                converterRegistry.forEach((from, targets) -> targets.forEach((to, converter) ->
+                        built[ordinals.get(from)][ordinals.get(to)] = converter));
+                converterMatrix = built;
+            }
+            return converterMatrix;
+        }
+    }
+
+    private GradeConverter[][] routeMatrix() {
+
+        GradeConverter[][] routes = routeMatrix;
+        if (Objects.nonNull(routes)) {
+            return routes;
+        }
+
+        synchronized (writeLock) {
+            if (Objects.isNull(routeMatrix)) {
+                String[] ids = new String[ordinals.size()];
+                ordinals.forEach((id, ordinal) -> ids[ordinal] = id);
+                routeMatrix = buildRoutes(converterMatrix(), ids);
+            }
+            return routeMatrix;
+        }
+    }
+
+    private static GradeConverter[][] buildRoutes(final GradeConverter[][] direct, final String[] ids) {
+
+        int size = direct.length;
+        GradeConverter[][] routes = new GradeConverter[size][size];
+        int[] previous = new int[size];
+        Deque<Integer> queue = new ArrayDeque<>();
+
+        for (int from = 0; from < size; from++) {
+            // breadth first search, so the first route found to a system has the fewest conversions
+            Arrays.fill(previous, -1);
+            previous[from] = from;
+            queue.add(from);
+            while (!queue.isEmpty()) {
+                int current = queue.poll();
+                for (int next = 0; next < size; next++) {
+                    if (previous[next] < 0 && Objects.nonNull(direct[current][next])) {
+                        previous[next] = current;
+                        queue.add(next);
+                    }
+                }
+            }
+
+            for (int to = 0; to < size; to++) {
+                if (to == from || previous[to] < 0) {
+                    continue;
+                } else if (previous[to] == from) {
+                    routes[from][to] = direct[from][to];
+                    continue;
+                }
+
+                List<GradeConverter> converters = new ArrayList<>();
+                List<String> gradingSystemIds = new ArrayList<>();
+                for (int hop = to; hop != from; hop = previous[hop]) {
+                    converters.add(direct[previous[hop]][hop]);
+                    gradingSystemIds.add(ids[hop]);
+                }
+                Collections.reverse(converters);
+                Collections.reverse(gradingSystemIds);
+                routes[from][to] = new ChainedGradeConverter(converters, gradingSystemIds);
+            }
+        }
+
+        return routes;
+    }
+
+    private void convertersChanged() {
+        converterMatrix = null;
+        routeMatrix = null;
+    }
+
+    private void putConverter(final String fromGradingSystemId, final String toGradingSystemId,
+                              final GradeConverter converter) {
+        assignOrdinal(fromGradingSystemId);
+        assignOrdinal(toGradingSystemId);
+        converterRegistry.computeIfAbsent(fromGradingSystemId, id -> new ConcurrentHashMap<>())
+                .put(toGradingSystemId, converter);
+    }
+
+    private void assignOrdinal(final String id) {
+        if (!ordinals.containsKey(id)) {
+            ordinals.put(id, ordinals.size());
+            convertersChanged();
+        }
+    }
+
+    private void changed() {
+        version.incrementAndGet();
+        snapshot = null;
+    }
+
+    private void compileSystem(String id, final GradingSystem gradingSystem) {
+        Optional<CompiledGradingSystem> compiled = Optional.ofNullable(gradingSystem).flatMap(CompiledGradingSystem::compile);
+        if (compiled.isPresent()) {
+            compiledSystemRegistry.put(id, compiled.get());
+        } else {
+            compiledSystemRegistry.remove(id);
+        }
     }
 
     @Override
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.system;
+
+import com.dryxtech.grade.api.GradingSystem;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An immutable point-in-time view of the grading systems of a registry.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class RegistrySnapshot {
+
+    private final String registryId;
+    private final long version;
+    private final Map<String, GradingSystem> systems;
+
+    RegistrySnapshot(final String registryId, final long version, final Map<String, GradingSystem> systems) {
+        this.registryId = registryId;
+        this.version = version;
+        this.systems = Collections.unmodifiableMap(new HashMap<>(systems));
+    }
+
+    public Optional<GradingSystem> lookupSystem(final String id) {
+        return Optional.ofNullable(systems.get(id));
+    }
+
+    public String getRegistryId() {
+        return registryId;
+    }
+
+    /**
+     * Getter of registry version the snapshot was taken at.
+     *
+     * @return registry version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Getter of grading systems by registered name.
+     *
+     * @return unmodifiable map of grading systems
+     */
+    public Map<String, GradingSystem> getSystems() {
+        return systems;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(registryId, version, systems);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        } else if (!(o instanceof RegistrySnapshot)) {
+            return false;
+        }
+
+        RegistrySnapshot that = (RegistrySnapshot) o;
+
+        return this.version == that.version &&
+                Objects.equals(this.registryId, that.registryId) &&
+                Objects.equals(this.systems, that.systems);
+    }
+
+    @Override
+    public String toString() {
+        return "RegistrySnapshot{" +
+                "registryId='" + registryId + '\'' +
+                ", version=" + version +
+                ", systems=" + systems.keySet() +
+                '}';
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.system.converter;
+
+import com.dryxtech.grade.api.GradeConverter;
+import com.dryxtech.grade.api.GradeException;
+import com.dryxtech.grade.api.GradeValue;
+import com.dryxtech.grade.api.GradingSystem;
+import com.dryxtech.grade.system.GradingSystemNotFoundException;
+import com.dryxtech.grade.system.GradingSystemRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An Abstract Class for converters that look up the target grading system in a registry.
+ * Bulk conversions look up the target grading system once for all grade values.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public abstract class AbstractGradeConverter implements GradeConverter {
+
+    protected final GradingSystemRegistry registry;
+
+    protected AbstractGradeConverter(final GradingSystemRegistry registry) {
+        Objects.requireNonNull(registry, "registry must not be null");
+        this.registry = registry;
+    }
+
+    protected GradingSystem lookupTargetSystem(final String targetGradingSystemId) throws GradingSystemNotFoundException {
+        return registry.lookupSystem(targetGradingSystemId)
+                .orElseThrow(() -> new GradingSystemNotFoundException(targetGradingSystemId));
+    }
+
+    /**
+     * Converter of a grade value to an already resolved grading system.
+     *
+     * @param gradeValue          Original grade value
+     * @param targetGradingSystem Target grading system
+     * @return grade value for target grading system
+     * @throws GradeException if conversion fails
+     */
+    protected abstract GradeValue convert(GradeValue gradeValue, GradingSystem targetGradingSystem) throws GradeException;
+
+    @Override
+    public GradeValue convert(final GradeValue gradeValue, final String targetGradingSystemId) throws GradeException {
+        return convert(gradeValue, lookupTargetSystem(targetGradingSystemId));
+    }
+
+    @Override
+    public List<GradeValue> convertAll(final Collection<? extends GradeValue> gradeValues,
+                                       final String targetGradingSystemId) throws GradeException {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+
+        GradingSystem targetGradingSystem = lookupTargetSystem(targetGradingSystemId);
+        List<GradeValue> converted = new ArrayList<>(gradeValues.size());
+        for (GradeValue gradeValue : gradeValues) {
+            converted.add(convert(gradeValue, targetGradingSystem));
+        }
+        return converted;
+    }
+
+    @Override
+    public GradeValue[] convertAll(final GradeValue[] gradeValues, final String targetGradingSystemId) throws GradeException {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+
+        GradingSystem targetGradingSystem = lookupTargetSystem(targetGradingSystemId);
+        GradeValue[] converted = new GradeValue[gradeValues.length];
+        for (int i = 0; i < gradeValues.length; i++) {
+            converted[i] = convert(gradeValues[i], targetGradingSystem);
+        }
+        return converted;
+    }
+}
@@ -16,28 +16,22 @@
 
 package com.dryxtech.grade.system.converter;
 
-import com.dryxtech.grade.api.GradeConverter;
 import com.dryxtech.grade.api.GradeException;
 import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.GradingSystem;
 import com.dryxtech.grade.model.GradeValueBuilder;
-import com.dryxtech.grade.system.GradingSystemNotFoundException;
 import com.dryxtech.grade.system.GradingSystemRegistry;
 
 import java.math.BigDecimal;
-import java.util.Objects;
 
-public class BinaryToPercentConverter implements GradeConverter {
-
-    private final GradingSystemRegistry registry;
+public class BinaryToPercentConverter extends AbstractGradeConverter {
 
     public BinaryToPercentConverter(GradingSystemRegistry registry) {
-        Objects.requireNonNull(registry, "registry must not be null");
-        this.registry = registry;
+        super(registry);
     }
 
     @Override
-    public GradeValue convert(GradeValue gradeValue, String targetGradingSystemId) throws GradeException {
+    protected GradeValue convert(GradeValue gradeValue, GradingSystem targetGradingSystem) throws GradeException {
 
         final BigDecimal newNumericValue;
         if (gradeValue.getNumericValue().equals(BigDecimal.ONE)) {
@@ -46,9 +40,6 @@ public class BinaryToPercentConverter implements GradeConverter {
             newNumericValue = BigDecimal.ONE;
         }
 
-        GradingSystem targetGradingSystem = registry.lookupSystem(targetGradingSystemId)
-                .orElseThrow(() -> new GradingSystemNotFoundException(targetGradingSystemId));
-
         String textValue = targetGradingSystem.getTextValue(newNumericValue)
                 .orElseThrow(() -> new GradeException(String.format("failed to get textValue for numericValue %s from target grading system %s",
                         newNumericValue, targetGradingSystem.getId())));
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.system.converter;
+
+import com.dryxtech.grade.api.GradeConverter;
+import com.dryxtech.grade.api.GradeException;
+import com.dryxtech.grade.api.GradeValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A converter that converts a grade value through a route of converters, one grading system at a time.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public class ChainedGradeConverter implements GradeConverter {
+
+    private final List<GradeConverter> converters;
+    private final List<String> gradingSystemIds;
+
+    /**
+     * Constructs converter for a route.
+     *
+     * @param converters converters of each hop
+     * @param gradingSystemIds target grading system of each hop (the last one is the route's target)
+     */
+    public ChainedGradeConverter(final List<GradeConverter> converters, final List<String> gradingSystemIds) {
+        Objects.requireNonNull(converters, "converters must not be null");
+        Objects.requireNonNull(gradingSystemIds, "grading system ids must not be null");
+        if (converters.isEmpty() || converters.size() != gradingSystemIds.size()) {
+            throw new IllegalArgumentException("converters and grading system ids must be non-empty and of equal size");
+        }
+
+        this.converters = Collections.unmodifiableList(new ArrayList<>(converters));
+        this.gradingSystemIds = Collections.unmodifiableList(new ArrayList<>(gradingSystemIds));
+    }
+
+    @Override
+    public GradeValue convert(final GradeValue gradeValue, final String targetGradingSystemId) throws GradeException {
+
+        GradeValue converted = gradeValue;
+        for (int i = 0; i < converters.size(); i++) {
+            converted = converters.get(i).convert(converted, gradingSystemIds.get(i));
+        }
+        return converted;
+    }
+
+    @Override
+    public List<GradeValue> convertAll(final Collection<? extends GradeValue> gradeValues,
+                                       final String targetGradingSystemId) throws GradeException {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+
+        // convert all values one hop at a time so each converter can convert in bulk
+        List<GradeValue> converted = new ArrayList<>(gradeValues);
+        for (int i = 0; i < converters.size(); i++) {
+            converted = converters.get(i).convertAll(converted, gradingSystemIds.get(i));
+        }
+        return converted;
+    }
+
+    @Override
+    public GradeValue[] convertAll(final GradeValue[] gradeValues, final String targetGradingSystemId) throws GradeException {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+
+        GradeValue[] converted = gradeValues;
+        for (int i = 0; i < converters.size(); i++) {
+            converted = converters.get(i).convertAll(converted, gradingSystemIds.get(i));
+        }
+        return (converted == gradeValues) ? converted.clone() : converted;
+    }
+
+    public List<GradeConverter> getConverters() {
+        return converters;
+    }
+
+    /**
+     * Getter of the target grading system of each hop.
+     *
+     * @return grading system ids in route order
+     */
+    public List<String> getGradingSystemIds() {
+        return gradingSystemIds;
+    }
+
+    @Override
+    public String toString() {
+        return "ChainedGradeConverter{" +
+                "gradingSystemIds=" + gradingSystemIds +
+                '}';
+    }
+}
@@ -16,7 +16,6 @@
 
 package com.dryxtech.grade.system.converter;
 
-import com.dryxtech.grade.api.GradeConverter;
 import com.dryxtech.grade.api.GradeException;
 import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.GradingSystem;
@@ -24,22 +23,31 @@ import com.dryxtech.grade.model.GradeValueBuilder;
 import com.dryxtech.grade.system.GradingSystemNotFoundException;
 import com.dryxtech.grade.system.GradingSystemRegistry;
 
-import java.util.Objects;
 
-public class NumericValueBasedConverter implements GradeConverter {
-
-    private final GradingSystemRegistry registry;
+public class NumericValueBasedConverter extends AbstractGradeConverter {
 
     public NumericValueBasedConverter(GradingSystemRegistry registry) {
-        Objects.requireNonNull(registry, "registry must not be null");
-        this.registry = registry;
+        super(registry);
     }
 
-    @Override
-    public GradeValue convert(GradeValue gradeValue, String targetGradingSystemId) throws GradeException {
+    /**
+     * Compiles this conversion for a source and target grading system into a converter with precomputed range tables.
+     *
+     * @param sourceGradingSystemId source grading system
+     * @param targetGradingSystemId target grading system
+     * @return compiled converter
+     * @throws GradingSystemNotFoundException if either grading system is not registered
+     */
+    public RangeTableConverter compile(String sourceGradingSystemId, String targetGradingSystemId) throws GradingSystemNotFoundException {
+        return new RangeTableConverter(RangeTableConverter.Mode.NUMERIC_VALUE,
+                registry.lookupSystem(sourceGradingSystemId)
+                        .orElseThrow(() -> new GradingSystemNotFoundException(sourceGradingSystemId)),
+                registry.lookupSystem(targetGradingSystemId)
+                        .orElseThrow(() -> new GradingSystemNotFoundException(targetGradingSystemId)));
+    }
 
-        GradingSystem targetGradingSystem = registry.lookupSystem(targetGradingSystemId)
-                .orElseThrow(() -> new GradingSystemNotFoundException(targetGradingSystemId));
+    @Override
+    protected GradeValue convert(GradeValue gradeValue, GradingSystem targetGradingSystem) throws GradeException {
 
         String textValue = targetGradingSystem.getTextValue(gradeValue.getNumericValue())
                 .orElseThrow(() -> new GradeException(String.format("failed to get textValue for numericValue %s from target grading system %s",
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.system.converter;
+
+import com.dryxtech.grade.api.GradeConverter;
+import com.dryxtech.grade.api.GradeException;
+import com.dryxtech.grade.api.GradeValue;
+import com.dryxtech.grade.api.GradeValueRange;
+import com.dryxtech.grade.api.GradingSystem;
+import com.dryxtech.grade.model.BasicGradeValue;
+import com.dryxtech.grade.model.BasicGradingSystem;
+import com.dryxtech.grade.model.GradeValueRangeIndex;
+import com.dryxtech.grade.system.CompiledGradingSystem;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A converter for a fixed source and target grading system whose range mappings are computed once on construction.
+ * Converts the same as {@link NumericValueBasedConverter} or {@link TextValueBasedConverter} without looking up
+ * the target grading system or scanning its ranges per value.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public class RangeTableConverter implements GradeConverter {
+
+    /**
+     * Value used to match a grade value to a range of the target grading system.
+     */
+    public enum Mode {
+        NUMERIC_VALUE, TEXT_VALUE
+    }
+
+    private final Mode mode;
+    private final String sourceGradingSystemId;
+    private final String targetGradingSystemId;
+
+    // numeric value mode: source range (by text) -> target range text, or null when the source range spans target ranges
+    private final Map<String, GradeValueRange> sourceRanges;
+    private final Map<String, String> targetTextBySourceText;
+    private final CompiledGradingSystem compiledTarget;
+    private final GradeValueRangeIndex targetIndex;
+
+    // text value mode: target text -> effective start, mid and end value
+    private final Map<String, BigDecimal[]> targetValuesByText;
+
+    public RangeTableConverter(final Mode mode, final GradingSystem sourceGradingSystem,
+                               final GradingSystem targetGradingSystem) {
+        Objects.requireNonNull(mode, "mode must not be null");
+        Objects.requireNonNull(sourceGradingSystem, "source grading system must not be null");
+        Objects.requireNonNull(targetGradingSystem, "target grading system must not be null");
+
+        this.mode = mode;
+        this.sourceGradingSystemId = sourceGradingSystem.getId();
+        this.targetGradingSystemId = targetGradingSystem.getId();
+
+        Optional<CompiledGradingSystem> compiled = CompiledGradingSystem.compile(targetGradingSystem);
+        this.compiledTarget = compiled.orElse(null);
+        this.targetIndex = compiled.map(CompiledGradingSystem::getRangeIndex).orElseGet(() ->
+                (targetGradingSystem instanceof BasicGradingSystem) ?
+                        ((BasicGradingSystem) targetGradingSystem).getRangeIndex() :
+                        new GradeValueRangeIndex(targetGradingSystem.getRanges()));
+
+        this.sourceRanges = new HashMap<>();
+        this.targetTextBySourceText = new HashMap<>();
+        this.targetValuesByText = new HashMap<>();
+
+        if (mode == Mode.NUMERIC_VALUE) {
+            Set<String> duplicateTexts = new HashSet<>();
+            for (GradeValueRange range : sourceGradingSystem.getRanges()) {
+                if (Objects.nonNull(sourceRanges.put(range.getTextValue(), range))) {
+                    duplicateTexts.add(range.getTextValue());
+                }
+            }
+            duplicateTexts.forEach(sourceRanges::remove);
+            sourceRanges.forEach((text, range) -> targetTextBySourceText.put(text, containingTargetText(range)));
+        } else {
+            for (GradeValueRange range : targetGradingSystem.getRanges()) {
+                // keyed by upper case text, the same as the text value lookup of BasicGradingSystem
+                String text = range.getTextValue();
+                if (!targetValuesByText.containsKey(text.toUpperCase())) {
+                    targetValuesByText.put(text.toUpperCase(), new BigDecimal[]{
+                            targetGradingSystem.getStartNumericValue(text).orElse(null),
+                            targetGradingSystem.getMidNumericValue(text).orElse(null),
+                            targetGradingSystem.getEndNumericValue(text).orElse(null)});
+                }
+            }
+        }
+    }
+
+    private String containingTargetText(final GradeValueRange sourceRange) {
+
+        BigDecimal start = sourceRange.getStartValue();
+        BigDecimal end = sourceRange.getEndValue();
+        int index = targetIndex.indexOf(start.add(end).divide(BigDecimal.valueOf(2)));
+        if (index < 0) {
+            return null;
+        }
+
+        GradeValueRange targetRange = targetIndex.get(index);
+        int startCompare = targetRange.getStartValue().compareTo(start);
+        int endCompare = targetRange.getEndValue().compareTo(end);
+        boolean containsStart = (startCompare < 0) ||
+                ((startCompare == 0) && (targetRange.getStartValueInclusive() || !sourceRange.getStartValueInclusive()));
+        boolean containsEnd = (endCompare > 0) ||
+                ((endCompare == 0) && (targetRange.getEndValueInclusive() || !sourceRange.getEndValueInclusive()));
+
+        return (containsStart && containsEnd) ? targetRange.getTextValue() : null;
+    }
+
+    @Override
+    public GradeValue convert(final GradeValue gradeValue, final String targetGradingSystemId) throws GradeException {
+        checkTarget(targetGradingSystemId);
+        return convert(gradeValue);
+    }
+
+    @Override
+    public List<GradeValue> convertAll(final Collection<? extends GradeValue> gradeValues,
+                                       final String targetGradingSystemId) throws GradeException {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+        checkTarget(targetGradingSystemId);
+
+        List<GradeValue> converted = new ArrayList<>(gradeValues.size());
+        for (GradeValue gradeValue : gradeValues) {
+            converted.add(convert(gradeValue));
+        }
+        return converted;
+    }
+
+    @Override
+    public GradeValue[] convertAll(final GradeValue[] gradeValues, final String targetGradingSystemId) throws GradeException {
+        Objects.requireNonNull(gradeValues, "grade values must not be null");
+        checkTarget(targetGradingSystemId);
+
+        GradeValue[] converted = new GradeValue[gradeValues.length];
+        for (int i = 0; i < gradeValues.length; i++) {
+            converted[i] = convert(gradeValues[i]);
+        }
+        return converted;
+    }
+
+    private void checkTarget(final String targetGradingSystemId) {
+        if (!this.targetGradingSystemId.equals(targetGradingSystemId)) {
+            throw new IllegalArgumentException("target grading system must be " + this.targetGradingSystemId);
+        }
+    }
+
+    private GradeValue convert(final GradeValue gradeValue) throws GradeException {
+        return (mode == Mode.NUMERIC_VALUE) ? convertNumericValue(gradeValue) : convertTextValue(gradeValue);
+    }
+
+    private GradeValue convertNumericValue(final GradeValue gradeValue) throws GradeException {
+
+        BigDecimal numericValue = gradeValue.getNumericValue();
+        String textValue = null;
+
+        GradeValueRange sourceRange = sourceRanges.get(gradeValue.getTextValue());
+        if (Objects.nonNull(sourceRange) && Objects.nonNull(numericValue) && sourceRange.inRange(numericValue)) {
+            textValue = targetTextBySourceText.get(gradeValue.getTextValue());
+        }
+
+        if (Objects.isNull(textValue)) {
+            int index = Objects.nonNull(compiledTarget) ? compiledTarget.indexOf(numericValue) : targetIndex.indexOf(numericValue);
+            if (index < 0) {
+                throw new GradeException(String.format("failed to get textValue for numericValue %s from target grading system %s",
+                        numericValue, targetGradingSystemId));
+            }
+            textValue = targetIndex.get(index).getTextValue();
+        }
+
+        return new BasicGradeValue(numericValue, textValue, targetGradingSystemId);
+    }
+
+    private GradeValue convertTextValue(final GradeValue gradeValue) throws GradeException {
+
+        String textValue = gradeValue.getTextValue();
+        BigDecimal[] values = Objects.isNull(textValue) ? null : targetValuesByText.get(textValue.toUpperCase());
+        if (Objects.isNull(values) || Objects.isNull(values[0])) {
+            throw new GradeException(String.format("failed to get startNumericValue for textValue %s from target grading system %s",
+                    gradeValue.getTextValue(), targetGradingSystemId));
+        }
+
+        BigDecimal numericValue = gradeValue.getNumericValue();
+        if ((numericValue.compareTo(values[0]) < 0) || (numericValue.compareTo(values[2]) > 0)) {
+            numericValue = values[1];
+        }
+
+        return new BasicGradeValue(numericValue, gradeValue.getTextValue(), targetGradingSystemId);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public String getSourceGradingSystemId() {
+        return sourceGradingSystemId;
+    }
+
+    public String getTargetGradingSystemId() {
+        return targetGradingSystemId;
+    }
+
+    @Override
+    public String toString() {
+        return "RangeTableConverter{" +
+                "mode=" + mode +
+                ", sourceGradingSystemId='" + sourceGradingSystemId + '\'' +
+                ", targetGradingSystemId='" + targetGradingSystemId + '\'' +
+                '}';
+    }
+}
@@ -27,10 +27,13 @@ import com.dryxtech.grade.api.Tester;
 import com.dryxtech.grade.model.BasicQuestionValue;
 import com.dryxtech.grade.model.BasicTestScore;
 import com.dryxtech.grade.model.BasicTestSubmission;
+import com.dryxtech.grade.util.FixedPointAccumulator;
+import com.dryxtech.grade.util.FixedPointMath;
 import com.dryxtech.grade.util.IdentifierUtil;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -47,15 +50,29 @@ public class BasicTester<T> implements Tester<TestSubmission> {
             .id("default-question-value").value("").weight(BigDecimal.ZERO).build();
     private final Test test;
     private final BigDecimal multiplier;
+    private final boolean fixedPoint;
 
     public BasicTester(Test test) {
         this(test, null);
     }
 
     public BasicTester(Test test, BigDecimal multiplier) {
+        this(test, multiplier, false);
+    }
+
+    /**
+     * Constructs tester.
+     *
+     * @param test       test to score submissions of
+     * @param multiplier optional multiplier of score value
+     * @param fixedPoint true to compute score value with fixed point arithmetic (see {@link FixedPointMath}),
+     *                   rounding half even to 9 decimal places; otherwise false
+     */
+    public BasicTester(Test test, BigDecimal multiplier, boolean fixedPoint) {
         Objects.requireNonNull(test, "test cannot be null");
         this.test = test;
         this.multiplier = multiplier;
+        this.fixedPoint = fixedPoint;
     }
 
     @Override
@@ -100,6 +117,8 @@ public class BasicTester<T> implements Tester<TestSubmission> {
 
         if (results.size() == 0) {
             return BigDecimal.ZERO;
+        } else if (fixedPoint) {
+            return getFixedPointValue(results);
         }
 
         BigDecimal sumOfValues = results.entrySet().stream()
@@ -113,4 +132,20 @@ public class BasicTester<T> implements Tester<TestSubmission> {
             return sumOfValues.divide(BigDecimal.valueOf(results.size()), MathContext.DECIMAL128);
         }
     }
+
+    private BigDecimal getFixedPointValue(Map<Question, BigDecimal> results) {
+
+        FixedPointAccumulator accumulator = new FixedPointAccumulator();
+        results.forEach((question, weight) -> accumulator.addWeighted(weight, question.getWeight()));
+
+        long value = accumulator.getScaledWeightedMean();
+        if (value == 0) {
+            return BigDecimal.ZERO;
+        } else if (value == FixedPointMath.NOT_REPRESENTABLE) {
+            return accumulator.getWeightedSum().divide(BigDecimal.valueOf(results.size()),
+                    FixedPointMath.SCALE, RoundingMode.HALF_EVEN);
+        }
+
+        return FixedPointMath.toBigDecimal(value);
+    }
 }
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.api.GradeValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+import static com.dryxtech.grade.util.FixedPointMath.NOT_REPRESENTABLE;
+import static com.dryxtech.grade.util.FixedPointMath.SCALE;
+
+/**
+ * A fixed point counterpart of {@link GradeAccumulator} holding values as longs scaled by 10^9
+ * (see {@link FixedPointMath}). Sums are kept in longs and weighted sums in 128 bits, so feeding scaled values
+ * does not allocate. A sum that would overflow is moved into a {@link BigDecimal} and accumulation continues,
+ * so results stay exact to 9 decimal places. Averages are rounded half even to 9 decimal places.
+ * <p>
+ * Instances are not thread safe; use {@link #combine(FixedPointAccumulator)} to merge accumulators fed separately.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class FixedPointAccumulator {
+
+    private long count;
+    private long sum;
+    private BigDecimal sumOverflow;
+    private long weightedCount;
+    private long weightedSumHigh;
+    private long weightedSumLow;
+    private BigDecimal weightedSumOverflow;
+    private long weightTotal;
+    private BigDecimal weightTotalOverflow;
+
+    /**
+     * Method to add a scaled value.
+     *
+     * @param scaledValue value scaled by 10^9
+     * @return this accumulator
+     */
+    public FixedPointAccumulator add(final long scaledValue) {
+        addToSum(scaledValue);
+        count++;
+        return this;
+    }
+
+    /**
+     * Method to add a whole number value.
+     *
+     * @param value whole number value
+     * @return this accumulator
+     */
+    public FixedPointAccumulator addWhole(final long value) {
+
+        long scaledValue = FixedPointMath.toScaled(value);
+        if (scaledValue == NOT_REPRESENTABLE) {
+            return add(BigDecimal.valueOf(value));
+        }
+
+        return add(scaledValue);
+    }
+
+    /**
+     * Method to add a numeric value. A null value is counted but adds nothing to the sum.
+     *
+     * @param value numeric value to add
+     * @return this accumulator
+     */
+    public FixedPointAccumulator add(final BigDecimal value) {
+
+        if (Objects.nonNull(value)) {
+            long scaledValue = FixedPointMath.toScaled(value);
+            if (scaledValue == NOT_REPRESENTABLE) {
+                sumOverflow = addOverflow(sumOverflow, value.setScale(SCALE, RoundingMode.HALF_EVEN));
+            } else {
+                addToSum(scaledValue);
+            }
+        }
+
+        count++;
+        return this;
+    }
+
+    /**
+     * Method to add a numeric value. A null value is counted but adds nothing to the sum.
+     *
+     * @param value numeric value to add
+     * @return this accumulator
+     */
+    public FixedPointAccumulator add(final Number value) {
+
+        if (value instanceof BigDecimal) {
+            return add((BigDecimal) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return addWhole(value.longValue());
+        } else if (value instanceof Double) {
+            return add(BigDecimal.valueOf(value.doubleValue()));
+        } else if (Objects.nonNull(value)) {
+            return add(new BigDecimal(value.toString()));
+        }
+
+        count++;
+        return this;
+    }
+
+    /**
+     * Method to add all numeric values of a collection.
+     *
+     * @param values numeric values to add
+     * @return this accumulator
+     */
+    public FixedPointAccumulator addAll(final Collection<? extends Number> values) {
+        Objects.requireNonNull(values, "values must not be null");
+
+        for (Number value : values) {
+            add(value);
+        }
+
+        return this;
+    }
+
+    /**
+     * Method to add the numeric value of a grade value.
+     *
+     * @param gradeValue grade value to add
+     * @return this accumulator
+     */
+    public FixedPointAccumulator addGradeValue(final GradeValue gradeValue) {
+        Objects.requireNonNull(gradeValue, "grade value must not be null");
+        return add(gradeValue.getNumericValue());
+    }
+
+    /**
+     * Method to add a scaled weighted value.
+     *
+     * @param scaledValue  value scaled by 10^9
+     * @param scaledWeight weight scaled by 10^9
+     * @return this accumulator
+     */
+    public FixedPointAccumulator addWeighted(final long scaledValue, final long scaledWeight) {
+
+        addToWeightedSum(FixedPointMath.multiplyHigh(scaledValue, scaledWeight), scaledValue * scaledWeight);
+        addToWeightTotal(scaledWeight);
+        weightedCount++;
+        return this;
+    }
+
+    /**
+     * Method to add a weighted numeric value.
+     *
+     * @param value  numeric value to add
+     * @param weight weight of numeric value
+     * @return this accumulator
+     */
+    public FixedPointAccumulator addWeighted(final BigDecimal value, final BigDecimal weight) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(weight, "weight must not be null");
+
+        long scaledValue = FixedPointMath.toScaled(value);
+        long scaledWeight = FixedPointMath.toScaled(weight);
+        if (scaledValue != NOT_REPRESENTABLE && scaledWeight != NOT_REPRESENTABLE) {
+            return addWeighted(scaledValue, scaledWeight);
+        }
+
+        BigDecimal roundedWeight = weight.setScale(SCALE, RoundingMode.HALF_EVEN);
+        weightedSumOverflow = addOverflow(weightedSumOverflow,
+                value.setScale(SCALE, RoundingMode.HALF_EVEN).multiply(roundedWeight));
+        weightTotalOverflow = addOverflow(weightTotalOverflow, roundedWeight);
+        weightedCount++;
+        return this;
+    }
+
+    /**
+     * Method to add the numeric value of a grade weighted by the grade's weight.
+     *
+     * @param grade grade to add
+     * @return this accumulator
+     */
+    public FixedPointAccumulator addGrade(final Grade grade) {
+        Objects.requireNonNull(grade, "grade must not be null");
+        return addWeighted(grade.getNumericValue(), grade.getWeight());
+    }
+
+    /**
+     * Method to merge the values of another accumulator into this accumulator.
+     *
+     * @param other accumulator to merge
+     * @return this accumulator
+     */
+    public FixedPointAccumulator combine(final FixedPointAccumulator other) {
+        Objects.requireNonNull(other, "accumulator must not be null");
+
+        addToSum(other.sum);
+        if (Objects.nonNull(other.sumOverflow)) {
+            sumOverflow = addOverflow(sumOverflow, other.sumOverflow);
+        }
+        count += other.count;
+
+        addToWeightedSum(other.weightedSumHigh, other.weightedSumLow);
+        if (Objects.nonNull(other.weightedSumOverflow)) {
+            weightedSumOverflow = addOverflow(weightedSumOverflow, other.weightedSumOverflow);
+        }
+        addToWeightTotal(other.weightTotal);
+        if (Objects.nonNull(other.weightTotalOverflow)) {
+            weightTotalOverflow = addOverflow(weightTotalOverflow, other.weightTotalOverflow);
+        }
+        weightedCount += other.weightedCount;
+        return this;
+    }
+
+    /**
+     * Method to clear all accumulated values so the accumulator can be reused.
+     */
+    public void reset() {
+        count = 0;
+        sum = 0;
+        sumOverflow = null;
+        weightedCount = 0;
+        weightedSumHigh = 0;
+        weightedSumLow = 0;
+        weightedSumOverflow = null;
+        weightTotal = 0;
+        weightTotalOverflow = null;
+    }
+
+    private void addToSum(final long scaledValue) {
+
+        long result = FixedPointMath.add(sum, scaledValue);
+        if (result == NOT_REPRESENTABLE) {
+            sumOverflow = addOverflow(sumOverflow, FixedPointMath.toBigDecimal(sum));
+            result = scaledValue;
+        }
+
+        sum = result;
+    }
+
+    private void addToWeightedSum(final long high, final long low) {
+
+        long sumLow = weightedSumLow + low;
+        long carry = (Long.compareUnsigned(sumLow, weightedSumLow) < 0) ? 1 : 0;
+        long sumHigh = weightedSumHigh + high + carry;
+        if ((((weightedSumHigh ^ sumHigh) & (high ^ sumHigh)) < 0) || (high == Long.MAX_VALUE && carry != 0)) {
+            // overflow of 128 bits, so move the weighted sum into the decimal sum and start over
+            weightedSumOverflow = addOverflow(weightedSumOverflow,
+                    FixedPointMath.toBigDecimal(weightedSumHigh, weightedSumLow));
+            sumHigh = high;
+            sumLow = low;
+        }
+
+        weightedSumHigh = sumHigh;
+        weightedSumLow = sumLow;
+    }
+
+    private void addToWeightTotal(final long scaledWeight) {
+
+        long result = FixedPointMath.add(weightTotal, scaledWeight);
+        if (result == NOT_REPRESENTABLE) {
+            weightTotalOverflow = addOverflow(weightTotalOverflow, FixedPointMath.toBigDecimal(weightTotal));
+            result = scaledWeight;
+        }
+
+        weightTotal = result;
+    }
+
+    private static BigDecimal addOverflow(final BigDecimal overflow, final BigDecimal value) {
+        return Objects.isNull(overflow) ? value : overflow.add(value);
+    }
+
+    /**
+     * Getter of number of added numeric values (including null values).
+     *
+     * @return count of numeric values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Getter of number of added weighted values.
+     *
+     * @return count of weighted values
+     */
+    public long getWeightedCount() {
+        return weightedCount;
+    }
+
+    /**
+     * Getter of sum of added numeric values.
+     *
+     * @return sum of numeric values with a scale of 9
+     */
+    public BigDecimal getSum() {
+        BigDecimal total = FixedPointMath.toBigDecimal(sum);
+        return Objects.isNull(sumOverflow) ? total : sumOverflow.add(total);
+    }
+
+    /**
+     * Getter of scaled sum of added numeric values.
+     *
+     * @return sum scaled by 10^9; otherwise {@link FixedPointMath#NOT_REPRESENTABLE} if the sum overflowed
+     */
+    public long getScaledSum() {
+        return Objects.isNull(sumOverflow) ? sum : FixedPointMath.toScaled(getSum());
+    }
+
+    /**
+     * Getter of scaled average of added numeric values.
+     *
+     * @return average scaled by 10^9; otherwise {@link FixedPointMath#NOT_REPRESENTABLE} if no values were added
+     * or the sum overflowed
+     */
+    public long getScaledAverage() {
+
+        if (count == 0) {
+            return NOT_REPRESENTABLE;
+        }
+
+        long total = getScaledSum();
+        return (total == NOT_REPRESENTABLE) ? NOT_REPRESENTABLE : FixedPointMath.divide(total, count);
+    }
+
+    /**
+     * Method to get the average of added numeric values.
+     *
+     * @return optional containing average with a scale of 9; otherwise empty if no values were added
+     */
+    public Optional<BigDecimal> getAverage() {
+
+        if (count == 0) {
+            return Optional.empty();
+        }
+
+        long average = getScaledAverage();
+        return Optional.of((average == NOT_REPRESENTABLE) ?
+                getSum().divide(BigDecimal.valueOf(count), SCALE, RoundingMode.HALF_EVEN) :
+                FixedPointMath.toBigDecimal(average));
+    }
+
+    /**
+     * Getter of sum of added weighted values multiplied by their weights.
+     *
+     * @return weighted sum with a scale of 18
+     */
+    public BigDecimal getWeightedSum() {
+        BigDecimal total = FixedPointMath.toBigDecimal(weightedSumHigh, weightedSumLow);
+        return Objects.isNull(weightedSumOverflow) ? total : weightedSumOverflow.add(total).setScale(SCALE * 2);
+    }
+
+    /**
+     * Getter of scaled sum of added weighted values multiplied by their weights.
+     *
+     * @return weighted sum scaled by 10^9; otherwise {@link FixedPointMath#NOT_REPRESENTABLE} if the sum does not fit
+     */
+    public long getScaledWeightedSum() {
+        return Objects.isNull(weightedSumOverflow) ?
+                FixedPointMath.divide(weightedSumHigh, weightedSumLow, FixedPointMath.UNIT) :
+                FixedPointMath.toScaled(getWeightedSum());
+    }
+
+    /**
+     * Getter of scaled mean of added weighted values multiplied by their weights (the weighted sum divided by the
+     * number of weighted values, unlike the weighted average which divides by the weight total).
+     *
+     * @return weighted mean scaled by 10^9; otherwise {@link FixedPointMath#NOT_REPRESENTABLE} if no weighted values
+     * were added or the weighted sum does not fit a long
+     */
+    public long getScaledWeightedMean() {
+
+        if (weightedCount == 0 || weightedCount > Long.MAX_VALUE / FixedPointMath.UNIT ||
+                Objects.nonNull(weightedSumOverflow)) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return FixedPointMath.divide(weightedSumHigh, weightedSumLow, weightedCount * FixedPointMath.UNIT);
+    }
+
+    /**
+     * Getter of sum of weights of added weighted values.
+     *
+     * @return weight total with a scale of 9
+     */
+    public BigDecimal getWeightTotal() {
+        BigDecimal total = FixedPointMath.toBigDecimal(weightTotal);
+        return Objects.isNull(weightTotalOverflow) ? total : weightTotalOverflow.add(total);
+    }
+
+    /**
+     * Getter of scaled weighted average of added weighted values.
+     *
+     * @return weighted average scaled by 10^9 (0 if the weight total is 0); otherwise
+     * {@link FixedPointMath#NOT_REPRESENTABLE} if no weighted values were added or the sums do not fit a long
+     */
+    public long getScaledWeightedAverage() {
+
+        if (weightedCount == 0 || Objects.nonNull(weightedSumOverflow) || Objects.nonNull(weightTotalOverflow)) {
+            return NOT_REPRESENTABLE;
+        }
+
+        // a sum of scale 18 divided by a weight total of scale 9 leaves a scale of 9
+        return (weightTotal == 0) ? 0 : FixedPointMath.divide(weightedSumHigh, weightedSumLow, weightTotal);
+    }
+
+    /**
+     * Method to get the weighted average of added weighted values.
+     *
+     * @return optional containing weighted average with a scale of 9 (0 if the weight total is 0);
+     * otherwise empty if no weighted values were added
+     */
+    public Optional<BigDecimal> getWeightedAverage() {
+
+        if (weightedCount == 0) {
+            return Optional.empty();
+        }
+
+        long average = getScaledWeightedAverage();
+        if (average != NOT_REPRESENTABLE) {
+            return Optional.of(FixedPointMath.toBigDecimal(average));
+        }
+
+        BigDecimal total = getWeightTotal();
+        return Optional.of((total.signum() == 0) ? FixedPointMath.toBigDecimal(0) :
+                getWeightedSum().divide(total, SCALE, RoundingMode.HALF_EVEN));
+    }
+
+    @Override
+    public String toString() {
+        return "FixedPointAccumulator{" +
+                "count=" + count +
+                ", sum=" + getSum() +
+                ", weightedCount=" + weightedCount +
+                ", weightedSum=" + getWeightedSum() +
+                ", weightTotal=" + getWeightTotal() +
+                '}';
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * A math utility class for fixed point values, where a numeric value is held as a long scaled by 10^9
+ * (the precision of {@link com.dryxtech.grade.model.BasicGradeValueRange#NANO_UNIT}).
+ * Values are rounded half even to 9 decimal places. Operations that would overflow a long return
+ * {@link #NOT_REPRESENTABLE} so callers can fall back to {@link BigDecimal}.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class FixedPointMath {
+
+    public static final int SCALE = 9;
+    public static final long UNIT = 1_000_000_000L;
+    public static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    private static final long MAX_WHOLE = Long.MAX_VALUE / UNIT;
+
+    private FixedPointMath() {
+        // Utility Class
+    }
+
+    /**
+     * Method to get the scaled form of a numeric value.
+     *
+     * @param value numeric value
+     * @return value scaled by 10^9; otherwise {@link #NOT_REPRESENTABLE} if the scaled value does not fit a long
+     */
+    public static long toScaled(final BigDecimal value) {
+        Objects.requireNonNull(value, "value must not be null");
+
+        BigInteger unscaled = value.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue();
+        if (unscaled.bitLength() > 63 || unscaled.longValue() == NOT_REPRESENTABLE) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return unscaled.longValue();
+    }
+
+    /**
+     * Method to get the scaled form of a whole number value.
+     *
+     * @param value whole number value
+     * @return value scaled by 10^9; otherwise {@link #NOT_REPRESENTABLE} if the scaled value does not fit a long
+     */
+    public static long toScaled(final long value) {
+        return (value > MAX_WHOLE || value < -MAX_WHOLE) ? NOT_REPRESENTABLE : value * UNIT;
+    }
+
+    /**
+     * Method to get the numeric value of a scaled value.
+     *
+     * @param scaledValue value scaled by 10^9
+     * @return numeric value with a scale of 9
+     */
+    public static BigDecimal toBigDecimal(final long scaledValue) {
+        return BigDecimal.valueOf(scaledValue, SCALE);
+    }
+
+    /**
+     * Method to add two scaled values.
+     *
+     * @param x scaled value
+     * @param y scaled value
+     * @return scaled sum; otherwise {@link #NOT_REPRESENTABLE} if the sum overflows
+     */
+    public static long add(final long x, final long y) {
+        long result = x + y;
+        return (((x ^ result) & (y ^ result)) < 0) ? NOT_REPRESENTABLE : result;
+    }
+
+    /**
+     * Method to divide a value by a divisor, rounding half even.
+     *
+     * @param dividend value to divide
+     * @param divisor  divisor
+     * @return rounded quotient
+     * @throws ArithmeticException if divisor is zero
+     */
+    public static long divide(final long dividend, final long divisor) {
+
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (remainder == 0) {
+            return quotient;
+        }
+
+        // compare the remainder with the rest of the divisor as negatives, which cannot overflow
+        long negRemainder = -Math.abs(remainder);
+        long negRest = ((divisor > 0) ? -divisor : divisor) - negRemainder;
+        int half = Long.compare(negRest, negRemainder);
+
+        if (half > 0 || (half == 0 && (quotient & 1) != 0)) {
+            return ((dividend < 0) == (divisor < 0)) ? quotient + 1 : quotient - 1;
+        }
+
+        return quotient;
+    }
+
+    /**
+     * Method to divide a 128 bit value by a divisor, rounding half even.
+     *
+     * @param high    high 64 bits of value to divide
+     * @param low     low 64 bits of value to divide
+     * @param divisor divisor
+     * @return rounded quotient; otherwise {@link #NOT_REPRESENTABLE} if the quotient does not fit a long
+     * @throws ArithmeticException if divisor is zero
+     */
+    public static long divide(final long high, final long low, final long divisor) {
+
+        if (divisor == 0) {
+            throw new ArithmeticException("divide by zero");
+        } else if (high == (low >> 63) && low != Long.MIN_VALUE) {
+            return divide(low, divisor);
+        }
+
+        boolean negative = (high < 0) != (divisor < 0);
+        long absLow = (high < 0) ? -low : low;
+        long absHigh = (high < 0) ? ~high + ((low == 0) ? 1 : 0) : high;
+        long absDivisor = (divisor < 0) ? -divisor : divisor;
+
+        if (Long.compareUnsigned(absHigh, absDivisor) >= 0) {
+            return NOT_REPRESENTABLE;
+        }
+
+        long quotient = divideUnsigned(absHigh, absLow, absDivisor);
+        if (quotient < 0) {
+            // the magnitude does not fit a long, and rounding up would wrap around to zero
+            return NOT_REPRESENTABLE;
+        }
+
+        long remainder = absLow - quotient * absDivisor;
+        int half = Long.compareUnsigned(remainder, absDivisor - remainder);
+        if (half > 0 || (half == 0 && (quotient & 1) != 0)) {
+            quotient++;
+        }
+
+        // the magnitude must fit a long (the most negative long is reserved)
+        if (quotient < 0) {
+            return NOT_REPRESENTABLE;
+        }
+
+        return negative ? -quotient : quotient;
+    }
+
+    private static long divideUnsigned(final long high, final long low, final long divisor) {
+
+        // long division of 32 bit digits (see Hacker's Delight, divlu), requires high < divisor
+        final long base = 1L << 32;
+        int shift = Long.numberOfLeadingZeros(divisor);
+        long v = divisor << shift;
+        long vHigh = v >>> 32;
+        long vLow = v & 0xFFFFFFFFL;
+        long uHigh = (shift == 0) ? high : (high << shift) | (low >>> (64 - shift));
+        long uLow = low << shift;
+        long uLowHigh = uLow >>> 32;
+        long uLowLow = uLow & 0xFFFFFFFFL;
+
+        long q1 = Long.divideUnsigned(uHigh, vHigh);
+        long rhat = uHigh - q1 * vHigh;
+        while (Long.compareUnsigned(q1, base) >= 0 || Long.compareUnsigned(q1 * vLow, base * rhat + uLowHigh) > 0) {
+            q1--;
+            rhat += vHigh;
+            if (Long.compareUnsigned(rhat, base) >= 0) {
+                break;
+            }
+        }
+
+        long u21 = uHigh * base + uLowHigh - q1 * v;
+        long q0 = Long.divideUnsigned(u21, vHigh);
+        rhat = u21 - q0 * vHigh;
+        while (Long.compareUnsigned(q0, base) >= 0 || Long.compareUnsigned(q0 * vLow, base * rhat + uLowLow) > 0) {
+            q0--;
+            rhat += vHigh;
+            if (Long.compareUnsigned(rhat, base) >= 0) {
+                break;
+            }
+        }
+
+        return q1 * base + q0;
+    }
+
+    /**
+     * Method to get the high 64 bits of the 128 bit product of two values.
+     *
+     * @param x value
+     * @param y value
+     * @return high 64 bits of product (the low 64 bits are {@code x * y})
+     */
+    public static long multiplyHigh(final long x, final long y) {
+
+        long x1 = x >> 32;
+        long x2 = x & 0xFFFFFFFFL;
+        long y1 = y >> 32;
+        long y2 = y & 0xFFFFFFFFL;
+
+        long z2 = x2 * y2;
+        long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        long z0 = t >> 32;
+        z1 += x2 * y1;
+
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    /**
+     * Method to get the numeric value of a 128 bit value scaled by 10^18 (e.g. a sum of scaled products).
+     *
+     * @param high high 64 bits
+     * @param low  low 64 bits
+     * @return numeric value with a scale of 18
+     */
+    public static BigDecimal toBigDecimal(final long high, final long low) {
+
+        if (high == (low >> 63)) {
+            return BigDecimal.valueOf(low, SCALE * 2);
+        }
+
+        byte[] bytes = new byte[16];
+        for (int i = 0; i < 8; i++) {
+            bytes[i] = (byte) (high >>> (56 - i * 8));
+            bytes[i + 8] = (byte) (low >>> (56 - i * 8));
+        }
+
+        return new BigDecimal(new BigInteger(bytes), SCALE * 2);
+    }
+}
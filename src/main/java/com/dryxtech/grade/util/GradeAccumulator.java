@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.api.GradeValue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A reusable accumulator of the sum, count, weighted sum and weight total of grade values, so averages can be
+ * computed in a single pass and fed incrementally. Whole number values are summed as longs until they would
+ * overflow, and {@link BigDecimal}, {@link Integer}, {@link Long} and {@link Double} values are converted without
+ * a string round trip. Averages are computed the same as {@link GradeMathUtil#calculateAverage(Collection)} and
+ * {@link GradeMathUtil#calculateWeightedAverage(Collection)}.
+ * <p>
+ * Instances are not thread safe; use {@link #combine(GradeAccumulator)} to merge accumulators fed separately.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class GradeAccumulator {
+
+    private long count;
+    private long longSum;
+    private BigDecimal sum = BigDecimal.ZERO;
+    private long weightedCount;
+    private BigDecimal weightedSum = BigDecimal.ZERO;
+    private BigDecimal weightTotal = BigDecimal.ZERO;
+
+    /**
+     * Method to add a numeric value. A null value is counted but adds nothing to the sum.
+     *
+     * @param value numeric value to add
+     * @return this accumulator
+     */
+    public GradeAccumulator add(final Number value) {
+
+        if (value instanceof BigDecimal) {
+            return add((BigDecimal) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return add(value.longValue());
+        } else if (value instanceof Double) {
+            return add(value.doubleValue());
+        } else if (value instanceof BigInteger) {
+            return add(new BigDecimal((BigInteger) value));
+        } else if (Objects.nonNull(value)) {
+            return add(new BigDecimal(value.toString()));
+        }
+
+        count++;
+        return this;
+    }
+
+    /**
+     * Method to add a numeric value. A null value is counted but adds nothing to the sum.
+     *
+     * @param value numeric value to add
+     * @return this accumulator
+     */
+    public GradeAccumulator add(final BigDecimal value) {
+
+        if (Objects.nonNull(value)) {
+            sum = sum.add(value);
+        }
+
+        count++;
+        return this;
+    }
+
+    /**
+     * Method to add a whole number value.
+     *
+     * @param value numeric value to add
+     * @return this accumulator
+     */
+    public GradeAccumulator add(final long value) {
+        addToLongSum(value);
+        count++;
+        return this;
+    }
+
+    private void addToLongSum(final long value) {
+
+        long result = longSum + value;
+        if (((longSum ^ result) & (value ^ result)) < 0) {
+            // overflow, so move the long sum into the decimal sum and start over
+            sum = sum.add(BigDecimal.valueOf(longSum));
+            result = value;
+        }
+
+        longSum = result;
+    }
+
+    /**
+     * Method to add a double value. The value is added as its decimal string form (see {@link Double#toString(double)}).
+     *
+     * @param value numeric value to add
+     * @return this accumulator
+     * @throws NumberFormatException if value is not finite
+     */
+    public GradeAccumulator add(final double value) {
+        return add(BigDecimal.valueOf(value));
+    }
+
+    /**
+     * Method to add all numeric values of a collection.
+     *
+     * @param values numeric values to add
+     * @return this accumulator
+     */
+    public GradeAccumulator addAll(final Collection<? extends Number> values) {
+        Objects.requireNonNull(values, "values must not be null");
+
+        for (Number value : values) {
+            add(value);
+        }
+
+        return this;
+    }
+
+    /**
+     * Method to add the numeric value of a grade value.
+     *
+     * @param gradeValue grade value to add
+     * @return this accumulator
+     */
+    public GradeAccumulator addGradeValue(final GradeValue gradeValue) {
+        Objects.requireNonNull(gradeValue, "grade value must not be null");
+        return add(gradeValue.getNumericValue());
+    }
+
+    /**
+     * Method to add a weighted numeric value.
+     *
+     * @param value  numeric value to add
+     * @param weight weight of numeric value
+     * @return this accumulator
+     */
+    public GradeAccumulator addWeighted(final BigDecimal value, final BigDecimal weight) {
+        Objects.requireNonNull(value, "value must not be null");
+        Objects.requireNonNull(weight, "weight must not be null");
+
+        weightedSum = weightedSum.add(weight.multiply(value, MathContext.DECIMAL128));
+        weightTotal = weightTotal.add(weight);
+        weightedCount++;
+        return this;
+    }
+
+    /**
+     * Method to add the numeric value of a grade weighted by the grade's weight.
+     *
+     * @param grade grade to add
+     * @return this accumulator
+     */
+    public GradeAccumulator addGrade(final Grade grade) {
+        Objects.requireNonNull(grade, "grade must not be null");
+        return addWeighted(grade.getNumericValue(), grade.getWeight());
+    }
+
+    /**
+     * Method to merge the values of another accumulator into this accumulator.
+     *
+     * @param other accumulator to merge
+     * @return this accumulator
+     */
+    public GradeAccumulator combine(final GradeAccumulator other) {
+        Objects.requireNonNull(other, "accumulator must not be null");
+
+        sum = sum.add(other.sum);
+        addToLongSum(other.longSum);
+        count += other.count;
+        weightedSum = weightedSum.add(other.weightedSum);
+        weightTotal = weightTotal.add(other.weightTotal);
+        weightedCount += other.weightedCount;
+        return this;
+    }
+
+    /**
+     * Method to clear all accumulated values so the accumulator can be reused.
+     */
+    public void reset() {
+        count = 0;
+        longSum = 0;
+        sum = BigDecimal.ZERO;
+        weightedCount = 0;
+        weightedSum = BigDecimal.ZERO;
+        weightTotal = BigDecimal.ZERO;
+    }
+
+    /**
+     * Getter of number of added numeric values (including null values).
+     *
+     * @return count of numeric values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Getter of sum of added numeric values.
+     *
+     * @return sum of numeric values
+     */
+    public BigDecimal getSum() {
+        return (longSum == 0) ? sum : sum.add(BigDecimal.valueOf(longSum));
+    }
+
+    /**
+     * Getter of number of added weighted values.
+     *
+     * @return count of weighted values
+     */
+    public long getWeightedCount() {
+        return weightedCount;
+    }
+
+    /**
+     * Getter of sum of added weighted values multiplied by their weights.
+     *
+     * @return weighted sum
+     */
+    public BigDecimal getWeightedSum() {
+        return weightedSum;
+    }
+
+    /**
+     * Getter of sum of weights of added weighted values.
+     *
+     * @return weight total
+     */
+    public BigDecimal getWeightTotal() {
+        return weightTotal;
+    }
+
+    /**
+     * Method to get the average of added numeric values.
+     *
+     * @return optional containing average; otherwise empty if no values were added
+     */
+    public Optional<BigDecimal> getAverage() {
+
+        if (count == 0) {
+            return Optional.empty();
+        }
+
+        BigDecimal total = getSum();
+        if (total.equals(BigDecimal.ZERO)) {
+            return Optional.of(total);
+        } else {
+            return Optional.of(total.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128));
+        }
+    }
+
+    /**
+     * Method to get the weighted average of added weighted values.
+     *
+     * @return optional containing weighted average; otherwise empty if no weighted values were added
+     */
+    public Optional<BigDecimal> getWeightedAverage() {
+
+        if (weightedCount == 0) {
+            return Optional.empty();
+        }
+
+        if (weightTotal.equals(BigDecimal.ZERO) || weightedSum.equals(BigDecimal.ZERO)) {
+            return Optional.of(BigDecimal.ZERO);
+        } else {
+            return Optional.of(weightedSum.divide(weightTotal, MathContext.DECIMAL128));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "GradeAccumulator{" +
+                "count=" + count +
+                ", sum=" + getSum() +
+                ", weightedCount=" + weightedCount +
+                ", weightedSum=" + weightedSum +
+                ", weightTotal=" + weightTotal +
+                '}';
+    }
+}
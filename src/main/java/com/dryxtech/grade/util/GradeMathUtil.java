@@ -18,10 +18,12 @@ package com.dryxtech.grade.util;
 
 import com.dryxtech.grade.api.Grade;
 import com.dryxtech.grade.api.GradeValue;
+import com.dryxtech.grade.model.GradeDistribution;
 import com.dryxtech.grade.model.GradeRank;
+import com.dryxtech.grade.model.GradeValueRangeIndex;
+import com.dryxtech.grade.model.RankMode;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -31,8 +33,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
 
 import static java.util.Comparator.comparing;
 import static java.util.Comparator.reverseOrder;
@@ -57,11 +57,14 @@ public final class GradeMathUtil {
 
         if (Objects.isNull(values) || values.isEmpty()) {
             return Optional.empty();
-        } else {
-            return calculateAverage(values.stream()
-                    .map(GradeValue::getNumericValue)
-                    .collect(Collectors.toList()));
         }
+
+        GradeAccumulator accumulator = new GradeAccumulator();
+        for (GradeValue value : values) {
+            accumulator.add(value.getNumericValue());
+        }
+
+        return accumulator.getAverage();
     }
 
     public static Optional<BigDecimal> calculateAverage(final Collection<? extends Number> values) {
@@ -70,16 +73,7 @@ public final class GradeMathUtil {
             return Optional.empty();
         }
 
-        BigDecimal sum = values.stream()
-                .filter(Objects::nonNull)
-                .map(v -> new BigDecimal(v.toString()))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        if (sum.equals(BigDecimal.ZERO)) {
-            return Optional.of(sum);
-        } else {
-            return Optional.of(sum.divide(new BigDecimal(values.size()), MathContext.DECIMAL128));
-        }
+        return new GradeAccumulator().addAll(values).getAverage();
     }
 
     public static BigDecimal calculateAverage(final Collection<? extends Number> values, BigDecimal defaultAverage) {
@@ -96,21 +90,14 @@ public final class GradeMathUtil {
             return Optional.empty();
         }
 
-        BigDecimal sumOfWeights = grades.stream()
-                .filter(Objects::nonNull)
-                .map(Grade::getWeight)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal sumOfGradePoints = grades.stream()
-                .filter(Objects::nonNull)
-                .map(grade -> grade.getWeight().multiply(grade.getNumericValue(), MathContext.DECIMAL128))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        if (sumOfWeights.equals(BigDecimal.ZERO) || sumOfGradePoints.equals(BigDecimal.ZERO)) {
-            return Optional.of(BigDecimal.ZERO);
-        } else {
-            return Optional.of(sumOfGradePoints.divide(sumOfWeights, MathContext.DECIMAL128));
+        GradeAccumulator accumulator = new GradeAccumulator();
+        for (Grade grade : grades) {
+            if (Objects.nonNull(grade)) {
+                accumulator.addGrade(grade);
+            }
         }
+
+        return Optional.of(accumulator.getWeightedAverage().orElse(BigDecimal.ZERO));
     }
 
     /**
@@ -137,8 +124,56 @@ public final class GradeMathUtil {
         return distribution;
     }
 
+    /**
+     * Create the distribution of grades per each range of a range index, counted in one pass without sorting
+     *
+     * @param grades     to analyze
+     * @param rangeIndex ranges of grading system
+     * @return distribution of grades per range
+     */
+    public static GradeDistribution calculateGradeDistribution(final Collection<? extends GradeValue> grades,
+                                                               final GradeValueRangeIndex rangeIndex) {
+
+        GradeDistribution distribution = new GradeDistribution(rangeIndex);
+        if (Objects.nonNull(grades)) {
+            distribution.addAll(grades);
+        }
+
+        return distribution;
+    }
+
+    /**
+     * Calculate the statistics (mean, standard deviation, min, max, median, p90, etc.) of grades in one pass
+     * (see {@link GradeStatistics}).
+     *
+     * @param grades to analyze
+     * @return statistics of numeric values of grades
+     */
+    public static GradeStatistics calculateStatistics(final Collection<? extends GradeValue> grades) {
+
+        GradeStatistics statistics = new GradeStatistics();
+        if (Objects.nonNull(grades)) {
+            for (GradeValue grade : grades) {
+                statistics.addGradeValue(grade);
+            }
+        }
+
+        return statistics;
+    }
+
     public static List<GradeRank> rankGradesHiToLow(final Collection<? extends Grade> grades) {
-        return rankGrades(grades, comparing(Grade::getNumericValue, reverseOrder()).thenComparing(Grade::getTimestamp));
+        return GradeRanker.rank(grades, true, RankMode.DENSE);
+    }
+
+    /**
+     * Ranks a collection of grades from highest to lowest numeric value (see {@link GradeRanker}).
+     *
+     * @param grades collection of grades to rank
+     * @param mode   how grades of the same numeric value share ranks
+     * @return sorted list of ranked grades from highest to lowest
+     */
+    public static List<GradeRank> rankGradesHiToLow(final Collection<? extends Grade> grades, final RankMode mode) {
+        return GradeRanker.rank(grades, true, mode);
     }
 
     public static List<GradeRank> rankGrades(final Collection<? extends Grade> grades, Comparator<Grade> comparator) {
@@ -147,26 +182,37 @@ public final class GradeMathUtil {
             return Collections.emptyList();
         }
 
-        List<GradeRank> rankedGrades = new ArrayList<>();
-        AtomicLong rank = new AtomicLong(1);
+        List<GradeRank> rankedGrades = new ArrayList<>(grades.size());
         List<Grade> gradeList = new ArrayList<>(grades);
         if (Objects.nonNull(comparator)) {
             gradeList.sort(comparator);
         }
 
-        gradeList.forEach(grade -> {
-            if ((!rankedGrades.isEmpty()) &&
-                    (grade.getNumericValue().compareTo(rankedGrades.get(rankedGrades.size() - 1).getGrade().getNumericValue()) != 0)) {
-                rankedGrades.add(new GradeRank(grade, rank.incrementAndGet()));
-            } else {
-                rankedGrades.add(new GradeRank(grade, rank.get()));
+        long rank = 1;
+        Grade previous = null;
+        for (Grade grade : gradeList) {
+            if (Objects.nonNull(previous) && grade.getNumericValue().compareTo(previous.getNumericValue()) != 0) {
+                rank++;
             }
-        });
+            rankedGrades.add(new GradeRank(grade, rank));
+            previous = grade;
+        }
 
         return rankedGrades;
     }
 
     public static List<GradeRank> rankGradesLowToHigh(final Collection<? extends Grade> grades) {
-        return rankGrades(grades, comparing(Grade::getNumericValue).thenComparing(Grade::getTimestamp));
+        return GradeRanker.rank(grades, false, RankMode.DENSE);
+    }
+
+    /**
+     * Ranks a collection of grades from lowest to highest numeric value (see {@link GradeRanker}).
+     *
+     * @param grades collection of grades to rank
+     * @param mode   how grades of the same numeric value share ranks
+     * @return sorted list of ranked grades from lowest to highest
+     */
+    public static List<GradeRank> rankGradesLowToHigh(final Collection<? extends Grade> grades, final RankMode mode) {
+        return GradeRanker.rank(grades, false, mode);
     }
 }
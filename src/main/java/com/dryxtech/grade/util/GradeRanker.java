@@ -0,0 +1,486 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.model.GradeRank;
+import com.dryxtech.grade.model.RankMode;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.reverseOrder;
+
+/**
+ * A ranking engine for grades ordered by numeric value and then by timestamp.
+ * Instead of sorting grades with a comparator, a primitive sort key is packed per grade from its fixed point
+ * numeric value (see {@link FixedPointMath}) and its position, and the keys are sorted as longs
+ * ({@link Arrays#parallelSort(long[])} for large inputs). Runs of grades of equal value are then sorted the same way
+ * by epoch nanos. Grades with equal value and timestamp keep their input order, so the result is the same as a stable
+ * comparator sort.
+ * <p>
+ * Grades that cannot be keyed exactly (a value with more than 9 decimal places or out of range, a missing
+ * timestamp, or timestamps of different zones) are ranked with the comparator instead.
+ * <p>
+ * The top grades or a window of the ranking (see {@link #top}, {@link #rankWindow}) and the rank of a single grade
+ * (see {@link #rankOf}) are computed without ranking the whole collection.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class GradeRanker {
+
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private static final long MIN_EPOCH_SECOND = Long.MIN_VALUE / FixedPointMath.UNIT + 1;
+    private static final long MAX_EPOCH_SECOND = Long.MAX_VALUE / FixedPointMath.UNIT - 1;
+
+    private static final Comparator<Grade> HI_TO_LOW =
+            comparing(Grade::getNumericValue, reverseOrder()).thenComparing(Grade::getTimestamp);
+    private static final Comparator<Grade> LOW_TO_HIGH =
+            comparing(Grade::getNumericValue).thenComparing(Grade::getTimestamp);
+
+    private GradeRanker() {
+        // Utility Class
+    }
+
+    /**
+     * Ranks a collection of grades by numeric value, and by timestamp for grades of the same numeric value.
+     *
+     * @param grades  collection of grades to rank
+     * @param hiToLow true to rank the highest numeric value first; otherwise the lowest numeric value first
+     * @param mode    how grades of the same numeric value share ranks
+     * @return sorted list of ranked grades
+     */
+    public static List<GradeRank> rank(final Collection<? extends Grade> grades, final boolean hiToLow,
+                                       final RankMode mode) {
+        Objects.requireNonNull(mode, "rank mode must not be null");
+
+        if (Objects.isNull(grades) || grades.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Grade[] sorted = grades.toArray(new Grade[0]);
+        boolean[] tied = new boolean[sorted.length];
+        if (!sortByKey(sorted, hiToLow, tied)) {
+            Arrays.sort(sorted, hiToLow ? HI_TO_LOW : LOW_TO_HIGH);
+            for (int i = 1; i < sorted.length; i++) {
+                tied[i] = sorted[i].getNumericValue().compareTo(sorted[i - 1].getNumericValue()) == 0;
+            }
+        }
+
+        return assignRanks(sorted, tied, mode, sorted.length);
+    }
+
+    /**
+     * Ranks the top grades of a collection, the same as the first entries of {@link #rank(Collection, boolean, RankMode)}.
+     * A bounded heap of the best grades is kept, so the top k of n grades are ranked in O(n log k).
+     *
+     * @param grades  collection of grades to rank
+     * @param k       maximum number of top grades to rank
+     * @param hiToLow true to rank the highest numeric value first; otherwise the lowest numeric value first
+     * @param mode    how grades of the same numeric value share ranks
+     * @return sorted list of at most k ranked grades
+     * @throws IllegalArgumentException if k is negative
+     */
+    public static List<GradeRank> top(final Collection<? extends Grade> grades, final int k, final boolean hiToLow,
+                                      final RankMode mode) {
+        return rankWindow(grades, 0, k, hiToLow, mode);
+    }
+
+    /**
+     * Ranks a window (e.g. a page of a leaderboard) of a collection of grades, the same as the entries at positions
+     * offset to offset + limit of {@link #rank(Collection, boolean, RankMode)}. Only the grades up to the end of
+     * the window are kept in a bounded heap, so the window is ranked in O(n log (offset + limit)).
+     *
+     * @param grades  collection of grades to rank
+     * @param offset  position of first ranked grade of window (0 is the top grade)
+     * @param limit   maximum number of ranked grades of window
+     * @param hiToLow true to rank the highest numeric value first; otherwise the lowest numeric value first
+     * @param mode    how grades of the same numeric value share ranks
+     * @return sorted list of at most limit ranked grades
+     * @throws IllegalArgumentException if offset or limit is negative
+     */
+    public static List<GradeRank> rankWindow(final Collection<? extends Grade> grades, final int offset, final int limit,
+                                             final boolean hiToLow, final RankMode mode) {
+        Objects.requireNonNull(mode, "rank mode must not be null");
+
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("offset and limit must not be negative");
+        } else if (Objects.isNull(grades) || limit == 0 || offset >= grades.size()) {
+            return Collections.emptyList();
+        }
+
+        int size = grades.size();
+        int end = (int) Math.min((long) offset + limit, size);
+        List<GradeRank> rankedGrades;
+        if (end == size) {
+            rankedGrades = rank(grades, hiToLow, mode);
+        } else {
+            Grade[] sorted = select(grades, end, hiToLow ? HI_TO_LOW : LOW_TO_HIGH);
+            boolean[] tied = new boolean[end];
+            for (int i = 1; i < end; i++) {
+                tied[i] = sorted[i].getNumericValue().compareTo(sorted[i - 1].getNumericValue()) == 0;
+            }
+            rankedGrades = assignRanks(sorted, tied, mode, size);
+        }
+
+        return (offset == 0) ? rankedGrades : new ArrayList<>(rankedGrades.subList(offset, end));
+    }
+
+    /**
+     * Method to get the rank of a single grade without ranking the collection.
+     * Only the grades of a better numeric value are counted, in O(n).
+     *
+     * @param grades  collection of grades to rank the grade among
+     * @param grade   grade to rank (counted as one of the grades if not in the collection)
+     * @param hiToLow true to rank the highest numeric value first; otherwise the lowest numeric value first
+     * @param mode    how grades of the same numeric value share ranks
+     * @return rank of grade
+     */
+    public static long rankOf(final Collection<? extends Grade> grades, final Grade grade, final boolean hiToLow,
+                              final RankMode mode) {
+        Objects.requireNonNull(grade, "grade must not be null");
+        Objects.requireNonNull(mode, "rank mode must not be null");
+
+        BigDecimal numericValue = grade.getNumericValue();
+        Set<BigDecimal> betterValues = (mode == RankMode.DENSE) ? new HashSet<>() : null;
+        long betterCount = 0;
+        long size = 0;
+        boolean contained = false;
+
+        if (Objects.nonNull(grades)) {
+            for (Grade other : grades) {
+                size++;
+                int comparison = other.getNumericValue().compareTo(numericValue);
+                if (hiToLow ? comparison > 0 : comparison < 0) {
+                    betterCount++;
+                    if (Objects.nonNull(betterValues)) {
+                        betterValues.add(other.getNumericValue().stripTrailingZeros());
+                    }
+                } else if (comparison == 0 && !contained) {
+                    contained = other == grade || other.equals(grade);
+                }
+            }
+        }
+
+        if (!contained) {
+            size++;
+        }
+
+        switch (mode) {
+            case DENSE:
+                return betterValues.size() + 1L;
+            case PERCENTILE:
+                return percentile(betterCount + 1, size);
+            default:
+                return betterCount + 1;
+        }
+    }
+
+    /**
+     * Method to rank grades already in rank order.
+     *
+     * @param sorted grades in rank order
+     * @param tied   per position, true if the grade has the same numeric value as the grade before it
+     * @param mode   how grades of the same numeric value share ranks
+     * @param size   number of grades ranked (sorted grades may be the top of them)
+     * @return list of ranked grades
+     */
+    private static List<GradeRank> assignRanks(final Grade[] sorted, final boolean[] tied, final RankMode mode,
+                                               final long size) {
+
+        List<GradeRank> rankedGrades = new ArrayList<>(sorted.length);
+        long denseRank = 0;
+        long competitionRank = 0;
+
+        for (int i = 0; i < sorted.length; i++) {
+            if (!tied[i]) {
+                denseRank++;
+                competitionRank = i + 1L;
+            }
+
+            long rank;
+            switch (mode) {
+                case COMPETITION:
+                    rank = competitionRank;
+                    break;
+                case PERCENTILE:
+                    rank = percentile(competitionRank, size);
+                    break;
+                default:
+                    rank = denseRank;
+            }
+            rankedGrades.add(new GradeRank(sorted[i], rank));
+        }
+
+        return rankedGrades;
+    }
+
+    private static long percentile(final long competitionRank, final long size) {
+        return (competitionRank * 100 + size - 1) / size;
+    }
+
+    /**
+     * Method to select the best grades in rank order, keeping the worst of the best grades at the head of a heap.
+     * Grades of equal value and timestamp are ordered by position, the same as a stable sort.
+     *
+     * @param grades collection of grades
+     * @param count  number of best grades to select
+     * @param order  rank order of grades
+     * @return sorted best grades
+     */
+    private static Grade[] select(final Collection<? extends Grade> grades, final int count, final Comparator<Grade> order) {
+
+        Comparator<Candidate> candidateOrder = (x, y) -> {
+            int comparison = order.compare(x.grade, y.grade);
+            return (comparison != 0) ? comparison : Integer.compare(x.position, y.position);
+        };
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(count, candidateOrder.reversed());
+
+        int position = 0;
+        for (Grade grade : grades) {
+            if (heap.size() < count) {
+                heap.add(new Candidate(grade, position));
+            } else if (order.compare(grade, heap.peek().grade) < 0) {
+                // a later grade of equal order is never better, as it comes after the heap grades by position
+                heap.poll();
+                heap.add(new Candidate(grade, position));
+            }
+            position++;
+        }
+
+        Candidate[] candidates = heap.toArray(new Candidate[0]);
+        Arrays.sort(candidates, candidateOrder);
+
+        Grade[] sorted = new Grade[candidates.length];
+        for (int i = 0; i < candidates.length; i++) {
+            sorted[i] = candidates[i].grade;
+        }
+
+        return sorted;
+    }
+
+    /**
+     * Method to sort grades by packed primitive keys.
+     *
+     * @param grades  grades to sort in place
+     * @param hiToLow true to sort highest numeric value first
+     * @param tied    set per position to true if the grade has the same numeric value as the grade before it
+     * @return true if grades were sorted; otherwise false if a grade cannot be keyed exactly
+     */
+    private static boolean sortByKey(final Grade[] grades, final boolean hiToLow, final boolean[] tied) {
+
+        int size = grades.length;
+        long[] valueKeys = new long[size];
+        long[] timeKeys = new long[size];
+        ZoneId zone = null;
+
+        for (int i = 0; i < size; i++) {
+            Grade grade = grades[i];
+            BigDecimal numericValue = grade.getNumericValue();
+            ZonedDateTime timestamp = grade.getTimestamp();
+            if (Objects.isNull(numericValue) || Objects.isNull(timestamp)) {
+                return false;
+            }
+
+            long scaledValue = toExactScaled(numericValue);
+            long epochSecond = timestamp.toEpochSecond();
+            if (scaledValue == FixedPointMath.NOT_REPRESENTABLE
+                    || epochSecond < MIN_EPOCH_SECOND || epochSecond > MAX_EPOCH_SECOND) {
+                return false;
+            }
+
+            // timestamps of different zones compare by local date-time and zone on equal instants
+            if (Objects.isNull(zone)) {
+                zone = timestamp.getZone();
+            } else if (!zone.equals(timestamp.getZone())) {
+                return false;
+            }
+
+            valueKeys[i] = hiToLow ? -scaledValue : scaledValue;
+            timeKeys[i] = epochSecond * FixedPointMath.UNIT + timestamp.getNano();
+        }
+
+        // sort positions by value, then sort runs of equal value by timestamp
+        int positionBits = bitsFor(size);
+        long positionMask = (1L << positionBits) - 1;
+        long[] keys = pack(valueKeys, positionBits);
+        sort(keys);
+
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = (int) (keys[i] & positionMask);
+        }
+
+        int start = 0;
+        for (int i = 1; i <= size; i++) {
+            if (i == size || valueKeys[order[i]] != valueKeys[order[start]]) {
+                if (i - start > 1) {
+                    sortByTime(order, start, i, timeKeys);
+                    Arrays.fill(tied, start + 1, i, true);
+                }
+                start = i;
+            }
+        }
+
+        Grade[] unsorted = grades.clone();
+        for (int i = 0; i < size; i++) {
+            grades[i] = unsorted[order[i]];
+        }
+
+        return true;
+    }
+
+    private static void sortByTime(final int[] order, final int from, final int to, final long[] timeKeys) {
+
+        int size = to - from;
+        long[] runTimeKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            runTimeKeys[i] = timeKeys[order[from + i]];
+        }
+
+        int positionBits = bitsFor(size);
+        long positionMask = (1L << positionBits) - 1;
+        long[] keys = pack(runTimeKeys, positionBits);
+        sort(keys);
+
+        int[] runOrder = Arrays.copyOfRange(order, from, to);
+        for (int i = 0; i < size; i++) {
+            order[from + i] = runOrder[(int) (keys[i] & positionMask)];
+        }
+    }
+
+    /**
+     * Method to pack keys and their positions into sortable longs. Keys are packed relative to the smallest key
+     * and divided by their common divisor (e.g. values of at most 2 decimal places step by 10^7 once scaled);
+     * keys spanning too wide a range are compressed to the ordinals of their distinct values first.
+     *
+     * @param keys         keys to pack
+     * @param positionBits bits to hold the position of a key
+     * @return packed keys, which sort by key and then by position
+     */
+    private static long[] pack(final long[] keys, final int positionBits) {
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long key : keys) {
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+
+        long range = max - min;
+        long divisor = 0;
+        if (range >= 0) {
+            for (int i = 0; i < keys.length && divisor != 1; i++) {
+                divisor = gcd(divisor, keys[i] - min);
+            }
+        }
+
+        long[] packed = new long[keys.length];
+        if (range >= 0 && Long.SIZE - Long.numberOfLeadingZeros(range / Math.max(divisor, 1)) + positionBits < Long.SIZE) {
+            for (int i = 0; i < keys.length; i++) {
+                long relative = keys[i] - min;
+                packed[i] = ((divisor > 1 ? relative / divisor : relative) << positionBits) | i;
+            }
+        } else {
+            int[] ordinals = toOrdinals(keys);
+            for (int i = 0; i < keys.length; i++) {
+                packed[i] = ((long) ordinals[i] << positionBits) | i;
+            }
+        }
+
+        return packed;
+    }
+
+    private static long toExactScaled(final BigDecimal numericValue) {
+
+        long scaledValue = FixedPointMath.toScaled(numericValue);
+        if (scaledValue != FixedPointMath.NOT_REPRESENTABLE && numericValue.scale() > FixedPointMath.SCALE
+                && FixedPointMath.toBigDecimal(scaledValue).compareTo(numericValue) != 0) {
+            return FixedPointMath.NOT_REPRESENTABLE;
+        }
+
+        return scaledValue;
+    }
+
+    private static int[] toOrdinals(final long[] keys) {
+
+        long[] distinctKeys = keys.clone();
+        sort(distinctKeys);
+
+        int count = 0;
+        for (int i = 0; i < distinctKeys.length; i++) {
+            if (i == 0 || distinctKeys[i] != distinctKeys[count - 1]) {
+                distinctKeys[count++] = distinctKeys[i];
+            }
+        }
+
+        int[] ordinals = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            ordinals[i] = Arrays.binarySearch(distinctKeys, 0, count, keys[i]);
+        }
+
+        return ordinals;
+    }
+
+    private static void sort(final long[] keys) {
+        if (keys.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(keys);
+        } else {
+            Arrays.sort(keys);
+        }
+    }
+
+    private static long gcd(final long x, final long y) {
+        long a = x;
+        long b = y;
+        while (b != 0) {
+            long t = a % b;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+
+    private static int bitsFor(final int count) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(count - 1, 0));
+    }
+
+    private static final class Candidate {
+
+        private final Grade grade;
+        private final int position;
+
+        private Candidate(final Grade grade, final int position) {
+            this.grade = grade;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import com.dryxtech.grade.api.GradeValue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * A streaming accumulator of the statistics of grade values: count, mean, variance, standard deviation,
+ * minimum, maximum and quantiles (e.g. median, p90, p99), fed one value at a time in bounded memory.
+ * The mean and variance are kept with Welford's online algorithm, and merged with the parallel form of
+ * Chan et al.; quantiles are approximated by a {@link QuantileSketch}. The minimum and maximum are exact.
+ * Null values are ignored.
+ * <p>
+ * Instances are not thread safe; use {@link #combine(GradeStatistics)} to merge statistics fed separately.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class GradeStatistics {
+
+    private long count;
+    private double mean;
+    private double sumOfSquares;
+    private BigDecimal min;
+    private BigDecimal max;
+    private final QuantileSketch sketch;
+
+    public GradeStatistics() {
+        this(QuantileSketch.DEFAULT_K);
+    }
+
+    /**
+     * Constructor of statistics.
+     *
+     * @param sketchSize k of quantile sketch (see {@link QuantileSketch#QuantileSketch(int)})
+     */
+    public GradeStatistics(final int sketchSize) {
+        this.sketch = new QuantileSketch(sketchSize);
+    }
+
+    public GradeStatistics add(final Number value) {
+
+        if (value instanceof BigDecimal) {
+            return add((BigDecimal) value);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return add(value.longValue());
+        } else if (value instanceof Double) {
+            return add(value.doubleValue());
+        } else if (value instanceof BigInteger) {
+            return add(new BigDecimal((BigInteger) value));
+        } else if (Objects.nonNull(value)) {
+            return add(new BigDecimal(value.toString()));
+        }
+
+        return this;
+    }
+
+    public GradeStatistics add(final BigDecimal value) {
+
+        if (Objects.nonNull(value)) {
+            if (Objects.isNull(min) || value.compareTo(min) < 0) {
+                min = value;
+            }
+            if (Objects.isNull(max) || value.compareTo(max) > 0) {
+                max = value;
+            }
+            update(value.doubleValue());
+        }
+
+        return this;
+    }
+
+    public GradeStatistics add(final long value) {
+
+        // only a value that may be a new minimum or maximum is converted
+        if (Objects.isNull(min) || !(value > min.doubleValue() && value < max.doubleValue())) {
+            add(BigDecimal.valueOf(value));
+        } else {
+            update(value);
+        }
+
+        return this;
+    }
+
+    /**
+     * Method to add a double value.
+     *
+     * @param value numeric value to add
+     * @return this statistics
+     * @throws NumberFormatException if value is not finite
+     */
+    public GradeStatistics add(final double value) {
+
+        if (Objects.isNull(min) || !(value > min.doubleValue() && value < max.doubleValue())) {
+            add(BigDecimal.valueOf(value));
+        } else {
+            update(value);
+        }
+
+        return this;
+    }
+
+    public GradeStatistics addAll(final Collection<? extends Number> values) {
+        Objects.requireNonNull(values, "values must not be null");
+
+        for (Number value : values) {
+            add(value);
+        }
+
+        return this;
+    }
+
+    public GradeStatistics addGradeValue(final GradeValue gradeValue) {
+        Objects.requireNonNull(gradeValue, "grade value must not be null");
+        return add(gradeValue.getNumericValue());
+    }
+
+    private void update(final double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        sumOfSquares += delta * (value - mean);
+        sketch.add(value);
+    }
+
+    /**
+     * Method to merge the values of other statistics into these statistics.
+     *
+     * @param other statistics to merge
+     * @return this statistics
+     */
+    public GradeStatistics combine(final GradeStatistics other) {
+        Objects.requireNonNull(other, "statistics must not be null");
+
+        if (other.count == 0) {
+            return this;
+        }
+
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        sumOfSquares += other.sumOfSquares + delta * delta * ((double) count * other.count / total);
+        count = total;
+
+        if (Objects.isNull(min) || other.min.compareTo(min) < 0) {
+            min = other.min;
+        }
+        if (Objects.isNull(max) || other.max.compareTo(max) > 0) {
+            max = other.max;
+        }
+
+        sketch.merge(other.sketch);
+        return this;
+    }
+
+    public GradeStatistics copy() {
+        return new GradeStatistics(sketch.getK()).combine(this);
+    }
+
+    public void reset() {
+        count = 0;
+        mean = 0;
+        sumOfSquares = 0;
+        min = null;
+        max = null;
+        sketch.reset();
+    }
+
+    /**
+     * Getter of number of added values (excluding null values).
+     *
+     * @return count of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public OptionalDouble getMean() {
+        return (count == 0) ? OptionalDouble.empty() : OptionalDouble.of(mean);
+    }
+
+    /**
+     * Getter of population variance of values.
+     *
+     * @return variance; otherwise empty if no values were added
+     */
+    public OptionalDouble getVariance() {
+        return (count == 0) ? OptionalDouble.empty() : OptionalDouble.of(Math.max(0, sumOfSquares / count));
+    }
+
+    /**
+     * Getter of sample variance of values (with Bessel's correction).
+     *
+     * @return sample variance; otherwise empty if fewer than 2 values were added
+     */
+    public OptionalDouble getSampleVariance() {
+        return (count < 2) ? OptionalDouble.empty() : OptionalDouble.of(Math.max(0, sumOfSquares / (count - 1)));
+    }
+
+    /**
+     * Getter of population standard deviation of values.
+     *
+     * @return standard deviation; otherwise empty if no values were added
+     */
+    public OptionalDouble getStandardDeviation() {
+        OptionalDouble variance = getVariance();
+        return variance.isPresent() ? OptionalDouble.of(Math.sqrt(variance.getAsDouble())) : variance;
+    }
+
+    public Optional<BigDecimal> getMin() {
+        return Optional.ofNullable(min);
+    }
+
+    public Optional<BigDecimal> getMax() {
+        return Optional.ofNullable(max);
+    }
+
+    /**
+     * Getter of approximate value at a quantile (see {@link QuantileSketch#getQuantile(double)}).
+     *
+     * @param quantile quantile from 0 to 1, e.g. 0.9 for p90
+     * @return value at quantile; otherwise empty if no values were added
+     */
+    public OptionalDouble getQuantile(final double quantile) {
+        return sketch.getQuantile(quantile);
+    }
+
+    public OptionalDouble getMedian() {
+        return sketch.getQuantile(0.5);
+    }
+
+    @Override
+    public String toString() {
+        return "GradeStatistics{" +
+                "count=" + count +
+                ", mean=" + getMean() +
+                ", standardDeviation=" + getStandardDeviation() +
+                ", min=" + min +
+                ", max=" + max +
+                ", median=" + getMedian() +
+                '}';
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalDouble;
+
+/**
+ * A mergeable sketch of the quantiles (e.g. median, p90, p99) of a stream of values in bounded memory,
+ * following the KLL sketch (Karnin, Lang and Liberty, "Optimal Quantile Approximation in Streams").
+ * Values are held in levels of compactors, where a value of level h stands for 2^h values. A full level is sorted
+ * and every other value is promoted to the next level (starting with the first and second value in turn, so results
+ * are deterministic and the rounding of compactions cancels out), and the capacity of a level shrinks
+ * geometrically with its distance from the top level, so about 3k values are held at most for any count of values.
+ * The rank error of a quantile is about 1.7 / k (about 1 percent for the default k of 200).
+ * The minimum and maximum values are kept exactly.
+ * <p>
+ * Instances are not thread safe; use {@link #merge(QuantileSketch)} to merge sketches fed separately.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class QuantileSketch {
+
+    public static final int DEFAULT_K = 200;
+    public static final int MIN_K = 8;
+
+    private static final double CAPACITY_RATIO = 2.0 / 3.0;
+
+    private final int k;
+    private double[][] levels = new double[0][];
+    private int[] sizes = new int[0];
+    private int[] compactions = new int[0];
+    private int retainedCount;
+    private int maxRetainedCount;
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    private double[] sortedValues;
+    private long[] cumulativeWeights;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Constructor of a sketch.
+     *
+     * @param k capacity of the top level, which sets the accuracy and the memory of the sketch
+     * @throws IllegalArgumentException if k is less than {@link #MIN_K}
+     */
+    public QuantileSketch(final int k) {
+
+        if (k < MIN_K) {
+            throw new IllegalArgumentException("k must be at least " + MIN_K);
+        }
+
+        this.k = k;
+        addLevel();
+    }
+
+    /**
+     * Method to add a value.
+     *
+     * @param value value to add
+     * @return this sketch
+     * @throws IllegalArgumentException if value is not a number
+     */
+    public QuantileSketch add(final double value) {
+
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("value must be a number");
+        }
+
+        append(0, value);
+        count++;
+        min = (count == 1) ? value : Math.min(min, value);
+        max = (count == 1) ? value : Math.max(max, value);
+
+        if (retainedCount >= maxRetainedCount) {
+            compress();
+        }
+
+        sortedValues = null;
+        return this;
+    }
+
+    /**
+     * Method to merge the values of another sketch into this sketch.
+     *
+     * @param other sketch to merge
+     * @return this sketch
+     * @throws IllegalArgumentException if other sketch has a different k
+     */
+    public QuantileSketch merge(final QuantileSketch other) {
+        Objects.requireNonNull(other, "sketch must not be null");
+
+        if (other.k != k) {
+            throw new IllegalArgumentException("sketches must have the same k");
+        } else if (other.count == 0) {
+            return this;
+        }
+
+        // appending to this sketch would grow the levels being read when merging a sketch into itself
+        QuantileSketch source = (other == this) ? other.copy() : other;
+
+        while (levels.length < source.levels.length) {
+            addLevel();
+        }
+
+        for (int level = 0; level < source.levels.length; level++) {
+            for (int i = 0; i < source.sizes[level]; i++) {
+                append(level, source.levels[level][i]);
+            }
+        }
+
+        min = (count == 0) ? source.min : Math.min(min, source.min);
+        max = (count == 0) ? source.max : Math.max(max, source.max);
+        count += source.count;
+
+        while (retainedCount >= maxRetainedCount) {
+            compress();
+        }
+
+        sortedValues = null;
+        return this;
+    }
+
+    public QuantileSketch copy() {
+        return new QuantileSketch(k).merge(this);
+    }
+
+    public void reset() {
+        levels = new double[0][];
+        sizes = new int[0];
+        compactions = new int[0];
+        retainedCount = 0;
+        count = 0;
+        min = Double.NaN;
+        max = Double.NaN;
+        sortedValues = null;
+        addLevel();
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Getter of number of added values.
+     *
+     * @return count of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Getter of number of values held by the sketch.
+     *
+     * @return count of retained values
+     */
+    public int getRetainedCount() {
+        return retainedCount;
+    }
+
+    public OptionalDouble getMin() {
+        return (count == 0) ? OptionalDouble.empty() : OptionalDouble.of(min);
+    }
+
+    public OptionalDouble getMax() {
+        return (count == 0) ? OptionalDouble.empty() : OptionalDouble.of(max);
+    }
+
+    /**
+     * Getter of approximate value at a quantile.
+     *
+     * @param quantile quantile from 0 (the minimum value) to 1 (the maximum value), e.g. 0.9 for p90
+     * @return value at quantile; otherwise empty if no values were added
+     * @throws IllegalArgumentException if quantile is not between 0 and 1
+     */
+    public OptionalDouble getQuantile(final double quantile) {
+
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("quantile must be between 0 and 1");
+        } else if (count == 0) {
+            return OptionalDouble.empty();
+        } else if (quantile == 0) {
+            return OptionalDouble.of(min);
+        } else if (quantile == 1) {
+            return OptionalDouble.of(max);
+        }
+
+        sort();
+        long targetWeight = (long) Math.ceil(quantile * count);
+        int index = Arrays.binarySearch(cumulativeWeights, targetWeight);
+        if (index < 0) {
+            index = Math.min(-index - 1, cumulativeWeights.length - 1);
+        }
+
+        return OptionalDouble.of(sortedValues[index]);
+    }
+
+    /**
+     * Getter of approximate fraction of values less than or equal to a value.
+     *
+     * @param value value to rank
+     * @return fraction of values from 0 to 1; otherwise empty if no values were added
+     */
+    public OptionalDouble getRank(final double value) {
+
+        if (count == 0) {
+            return OptionalDouble.empty();
+        }
+
+        sort();
+        int low = 0;
+        int high = sortedValues.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedValues[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return OptionalDouble.of((low == 0) ? 0 : (double) cumulativeWeights[low - 1] / count);
+    }
+
+    private void append(final int level, final double value) {
+
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], Math.max(4, levels[level].length * 2));
+        }
+
+        levels[level][sizes[level]++] = value;
+        retainedCount++;
+    }
+
+    private void addLevel() {
+
+        int levelCount = levels.length + 1;
+        levels = Arrays.copyOf(levels, levelCount);
+        sizes = Arrays.copyOf(sizes, levelCount);
+        compactions = Arrays.copyOf(compactions, levelCount);
+        levels[levelCount - 1] = new double[0];
+
+        maxRetainedCount = 0;
+        for (int level = 0; level < levelCount; level++) {
+            maxRetainedCount += capacity(level);
+        }
+    }
+
+    private int capacity(final int level) {
+        int depth = levels.length - level - 1;
+        return Math.max(2, (int) Math.ceil(k * Math.pow(CAPACITY_RATIO, depth)));
+    }
+
+    private void compress() {
+
+        for (int level = 0; level < levels.length; level++) {
+            if (sizes[level] >= capacity(level)) {
+                if (level + 1 == levels.length) {
+                    addLevel();
+                }
+                compact(level);
+                return;
+            }
+        }
+    }
+
+    private void compact(final int level) {
+
+        double[] values = levels[level];
+        int size = sizes[level];
+        Arrays.sort(values, 0, size);
+
+        // an odd value out (the smallest) stays on this level
+        int from = size & 1;
+        int offset = compactions[level]++ & 1;
+        for (int i = from + offset; i < size; i += 2) {
+            append(level + 1, values[i]);
+        }
+
+        sizes[level] = from;
+        retainedCount -= size - from;
+    }
+
+    private void sort() {
+
+        if (Objects.nonNull(sortedValues)) {
+            return;
+        }
+
+        // merge the sorted levels, where a value of level h has a weight of 2^h
+        int[] positions = new int[levels.length];
+        for (int level = 0; level < levels.length; level++) {
+            Arrays.sort(levels[level], 0, sizes[level]);
+        }
+
+        sortedValues = new double[retainedCount];
+        cumulativeWeights = new long[retainedCount];
+        long cumulativeWeight = 0;
+        for (int i = 0; i < retainedCount; i++) {
+            int minLevel = -1;
+            for (int level = 0; level < levels.length; level++) {
+                if (positions[level] < sizes[level] && (minLevel < 0
+                        || levels[level][positions[level]] < levels[minLevel][positions[minLevel]])) {
+                    minLevel = level;
+                }
+            }
+            sortedValues[i] = levels[minLevel][positions[minLevel]++];
+            cumulativeWeight += 1L << minLevel;
+            cumulativeWeights[i] = cumulativeWeight;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "QuantileSketch{" +
+                "k=" + k +
+                ", count=" + count +
+                ", retainedCount=" + retainedCount +
+                '}';
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A time window of the count and sum of grade values, kept in a ring buffer of buckets of partial sums.
+ * A sliding window of n buckets covers the current bucket and the n - 1 buckets before it
+ * (e.g. a 7 day window of 7 buckets covers today and the 6 days before); a tumbling window is a single bucket,
+ * which starts over as time passes into the next window. Buckets are aligned to the epoch (UTC).
+ * Buckets that fall out of the window are subtracted from the totals, so an update is O(1) amortized and a query is
+ * O(1). Sums are exact, so subtraction does not drift.
+ * <p>
+ * Time moves forward either with the latest timestamp added ({@link #add(Instant, BigDecimal)}, for a standalone
+ * stream in time order) or with a clock ({@link #add(Instant, BigDecimal, Instant)} and {@link #advanceTo(Instant)}).
+ * Against a clock, values of up to one bucket after the current bucket (e.g. of clock skew) are held until time
+ * reaches their bucket, and values of later timestamps are ignored, so a future-dated value cannot move the window
+ * forward. Values of a timestamp before the window are ignored.
+ * <p>
+ * Instances are not thread safe.
+ *
+ * @author Drew Griffin
+ * @since 2021.2
+ */
+public final class RollingWindow {
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    // one slot per bucket of window, plus one for the bucket after the current bucket
+    private final long[] bucketIds;
+    private final long[] counts;
+    private final BigDecimal[] sums;
+    private long latestBucket = Long.MIN_VALUE;
+    private long count;
+    private BigDecimal sum = BigDecimal.ZERO;
+
+    private RollingWindow(final Duration window, final int bucketCount) {
+        Objects.requireNonNull(window, "window must not be null");
+
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("bucket count must be at least 1");
+        } else if (window.isNegative() || window.toMillis() / bucketCount < 1
+                || window.toMillis() % bucketCount != 0) {
+            throw new IllegalArgumentException("window must divide into buckets of whole milliseconds");
+        }
+
+        this.bucketMillis = window.toMillis() / bucketCount;
+        this.bucketCount = bucketCount;
+        this.bucketIds = new long[bucketCount + 1];
+        this.counts = new long[bucketCount + 1];
+        this.sums = new BigDecimal[bucketCount + 1];
+        Arrays.fill(sums, BigDecimal.ZERO);
+    }
+
+    /**
+     * Creates a sliding window, which moves forward one bucket at a time.
+     *
+     * @param window      length of window
+     * @param bucketCount number of buckets of window
+     * @return sliding window
+     * @throws IllegalArgumentException if window does not divide into buckets of whole milliseconds
+     */
+    public static RollingWindow sliding(final Duration window, final int bucketCount) {
+        return new RollingWindow(window, bucketCount);
+    }
+
+    /**
+     * Creates a tumbling window, which starts over at the end of each window.
+     *
+     * @param window length of window
+     * @return tumbling window
+     * @throws IllegalArgumentException if window is less than a millisecond
+     */
+    public static RollingWindow tumbling(final Duration window) {
+        return new RollingWindow(window, 1);
+    }
+
+    /**
+     * Method to add a value of a stream in time order, moving the window forward to the timestamp of value.
+     *
+     * @param timestamp time of value
+     * @param value     numeric value
+     * @return true if value was added; otherwise false as timestamp is before window
+     */
+    public boolean add(final Instant timestamp, final BigDecimal value) {
+        Objects.requireNonNull(timestamp, "timestamp must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+
+        long bucket = bucketOf(timestamp);
+        advance(bucket);
+        return addToBucket(bucket, value);
+    }
+
+    /**
+     * Method to add a value, moving the window forward to the current time only.
+     *
+     * @param timestamp time of value
+     * @param value     numeric value
+     * @param now       current time
+     * @return true if value was added; otherwise false as timestamp is before window or more than a bucket after now
+     */
+    public boolean add(final Instant timestamp, final BigDecimal value, final Instant now) {
+        Objects.requireNonNull(timestamp, "timestamp must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+
+        advanceTo(now);
+        return addToBucket(bucketOf(timestamp), value);
+    }
+
+    /**
+     * Method to remove a value that was added.
+     *
+     * @param timestamp time of value
+     * @param value     numeric value
+     * @return true if value was removed; otherwise false as timestamp is not in window
+     */
+    public boolean remove(final Instant timestamp, final BigDecimal value) {
+        Objects.requireNonNull(timestamp, "timestamp must not be null");
+        Objects.requireNonNull(value, "value must not be null");
+
+        long bucket = bucketOf(timestamp);
+        int slot = slotOf(bucket);
+        if (!isHeld(bucket) || counts[slot] == 0) {
+            return false;
+        }
+
+        counts[slot]--;
+        sums[slot] = sums[slot].subtract(value);
+        if (bucket <= latestBucket) {
+            count--;
+            sum = (count == 0) ? BigDecimal.ZERO : sum.subtract(value);
+        }
+        return true;
+    }
+
+    /**
+     * Method to move the window forward to a time, dropping the buckets that fall out of the window.
+     *
+     * @param now time to move to
+     */
+    public void advanceTo(final Instant now) {
+        Objects.requireNonNull(now, "now must not be null");
+        advance(bucketOf(now));
+    }
+
+    private boolean addToBucket(final long bucket, final BigDecimal value) {
+
+        if (!isHeld(bucket)) {
+            return false;
+        }
+
+        int slot = slotOf(bucket);
+        counts[slot]++;
+        sums[slot] = sums[slot].add(value);
+        if (bucket <= latestBucket) {
+            count++;
+            sum = sum.add(value);
+        }
+        return true;
+    }
+
+    private boolean isHeld(final long bucket) {
+        return latestBucket != Long.MIN_VALUE && bucket > latestBucket - bucketCount && bucket <= latestBucket + 1;
+    }
+
+    private void advance(final long bucket) {
+
+        if (bucket <= latestBucket) {
+            return;
+        }
+
+        if (latestBucket == Long.MIN_VALUE || bucket - latestBucket > bucketCount) {
+            for (long next = bucket - bucketCount + 1; next <= bucket + 1; next++) {
+                int slot = slotOf(next);
+                bucketIds[slot] = next;
+                counts[slot] = 0;
+                sums[slot] = BigDecimal.ZERO;
+            }
+            count = 0;
+            sum = BigDecimal.ZERO;
+        } else {
+            for (long next = latestBucket + 1; next <= bucket; next++) {
+                // the oldest bucket drops out and its slot holds the bucket after next
+                int expired = slotOf(next - bucketCount);
+                count -= counts[expired];
+                sum = sum.subtract(sums[expired]);
+                bucketIds[expired] = next + 1;
+                counts[expired] = 0;
+                sums[expired] = BigDecimal.ZERO;
+
+                // values held for next join the window
+                int slot = slotOf(next);
+                count += counts[slot];
+                sum = sum.add(sums[slot]);
+            }
+        }
+
+        if (count == 0) {
+            sum = BigDecimal.ZERO;
+        }
+        latestBucket = bucket;
+    }
+
+    private long bucketOf(final Instant timestamp) {
+        return Math.floorDiv(timestamp.toEpochMilli(), bucketMillis);
+    }
+
+    private int slotOf(final long bucket) {
+        return (int) Math.floorMod(bucket, (long) bucketIds.length);
+    }
+
+    public Duration getWindow() {
+        return Duration.ofMillis(bucketMillis * bucketCount);
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    /**
+     * Getter of number of values in window.
+     *
+     * @return count of values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Getter of sum of values in window.
+     *
+     * @return sum of values
+     */
+    public BigDecimal getSum() {
+        return sum;
+    }
+
+    /**
+     * Method to get the average of values in window, the same as {@link GradeAccumulator#getAverage()}.
+     *
+     * @return optional containing average; otherwise empty if window has no values
+     */
+    public Optional<BigDecimal> getAverage() {
+
+        if (count == 0) {
+            return Optional.empty();
+        } else if (sum.signum() == 0) {
+            return Optional.of(sum);
+        }
+
+        return Optional.of(sum.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128));
+    }
+
+    @Override
+    public String toString() {
+        return "RollingWindow{" +
+                "window=" + getWindow() +
+                ", bucketCount=" + bucketCount +
+                ", count=" + count +
+                ", sum=" + sum +
+                '}';
+    }
+}
@@ -21,6 +21,7 @@ import com.dryxtech.grade.api.GradeReference;
 import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.GradingSystem;
 import com.dryxtech.grade.model.BasicGradeReference;
+import com.dryxtech.grade.model.GradeBuilder;
 import com.dryxtech.grade.system.GradingSystemType;
 import org.mockito.Mockito;
 
@@ -63,6 +64,11 @@ public final class GradeTesting {
         // Test Utility
     }
 
+    public static Grade grade(String type, String gradingSystem, Number numericValue, ZonedDateTime timestamp) {
+        return new GradeBuilder(true).type(type).gradingSystem(gradingSystem).numericValue(numericValue)
+                .timestamp(timestamp).build();
+    }
+
     public static List<Grade> mockGrades(int start, int total) {
         List<Number> values = IntStream.range(start, start + total).boxed().collect(Collectors.toList());
         return mockGrades(values.toArray(new Number[total]));
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.model.GradeBuilder;
+import com.dryxtech.grade.util.GradeStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class GradeStatisticsViewTest {
+
+    private static final String PERCENT = "academic.percent.standard.us";
+    private static final String ELO = "game.rating.chess.elo";
+
+    @Test
+    void followGradeBook() {
+
+        ObservableGradeBook<Grade> gradeBook = new ObservableGradeBook<>(new SimpleMemoryGradeBook<>());
+        gradeBook.record(grade(PERCENT, 80));
+
+        GradeStatisticsView<Grade> view = GradeStatisticsView.attach(gradeBook);
+        Grade low = grade(PERCENT, 60);
+        gradeBook.record(Arrays.asList(low, grade(PERCENT, 100), grade(ELO, 1500)));
+
+        assertEquals(new HashSet<>(Arrays.asList(PERCENT, ELO)), view.getGradingSystems());
+        GradeStatistics statistics = view.getStatistics(PERCENT).orElseThrow(IllegalStateException::new);
+        assertEquals(3, statistics.getCount());
+        assertEquals(80.0, statistics.getMean().getAsDouble(), 1e-9);
+        assertEquals(80.0, statistics.getMedian().getAsDouble());
+
+        gradeBook.erase(low);
+        statistics = view.getStatistics(PERCENT).orElseThrow(IllegalStateException::new);
+        assertEquals(2, statistics.getCount());
+        assertEquals(90.0, statistics.getMean().getAsDouble(), 1e-9);
+        assertEquals(new BigDecimal(80), statistics.getMin().orElse(null));
+
+        gradeBook.erase(grade -> ELO.equals(grade.getGradingSystem()));
+        assertFalse(view.getStatistics(ELO).isPresent());
+        assertEquals(new HashSet<>(Arrays.asList(PERCENT)), view.getGradingSystems());
+    }
+
+    private static Grade grade(final String gradingSystem, final int numericValue) {
+        return new GradeBuilder(true).type("test").gradingSystem(gradingSystem).numericValue(numericValue).build();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.GradeTesting;
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.api.ManagedGrade;
+import com.dryxtech.grade.model.BasicManagedGrade;
+import com.dryxtech.grade.model.GradeBuilder;
+import com.dryxtech.grade.model.GradeReferenceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IndexedMemoryGradeBookTest {
+
+    private static final String PERCENT = "academic.percent.standard.us";
+    private static final String LETTER = "academic.letter.standard.us";
+
+    private IndexedMemoryGradeBook<ManagedGrade> gradeBook;
+    private ManagedGrade aliceMath;
+    private ManagedGrade aliceArt;
+    private ManagedGrade bobMath;
+
+    @BeforeEach
+    void setup() {
+
+        aliceMath = grade("a1", PERCENT, "alice", "math");
+        aliceArt = grade("a2", LETTER, "alice", "art");
+        bobMath = grade("b1", PERCENT, "bob", "math");
+
+        gradeBook = new IndexedMemoryGradeBook<>(IndexedMemoryGradeBookTest.class.getSimpleName(), 4);
+        gradeBook.record(Arrays.asList(aliceMath, aliceArt));
+        gradeBook.addReferenceIndex("student").addExtensionIndex("term").addManagementIndex("course");
+        gradeBook.record(bobMath);
+    }
+
+    @Test
+    void findByIndex() {
+
+        assertEquals(Optional.of(bobMath), gradeBook.findById("b1"));
+        assertFalse(gradeBook.findById("c1").isPresent());
+
+        assertEquals(Arrays.asList(aliceMath, aliceArt), gradeBook.findBy("reference.student", "alice"));
+        assertEquals(Arrays.asList(aliceMath, bobMath), gradeBook.findBy("management.course", "math"));
+        assertEquals(Arrays.asList(aliceMath, bobMath), gradeBook.findByGradingSystem(PERCENT));
+        assertEquals(3, gradeBook.findBy("extension.term", "fall").size());
+        assertEquals(Collections.singletonList(bobMath),
+                gradeBook.findBy(IndexedMemoryGradeBook.TYPE_INDEX, "test", grade -> "b1".equals(grade.getId())));
+        assertTrue(gradeBook.findByTextValue("A").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> gradeBook.findBy("reference.course", "math"));
+    }
+
+    @Test
+    void eraseGrades() {
+
+        assertFalse(gradeBook.erase(grade("a1", LETTER, "alice", "math")));
+        assertTrue(gradeBook.erase(aliceMath));
+        assertEquals(Collections.singletonList(aliceArt), gradeBook.findBy("reference.student", "alice"));
+
+        assertEquals(Collections.singletonList(bobMath), gradeBook.erase(grade -> PERCENT.equals(grade.getGradingSystem())));
+        assertTrue(gradeBook.findBy("management.course", "math").isEmpty());
+
+        assertEquals(Collections.singletonList(aliceArt), gradeBook.eraseAll());
+        assertEquals(0, gradeBook.size());
+        assertTrue(gradeBook.findByType("test").isEmpty());
+    }
+
+    @Test
+    void findBetween() {
+
+        ZonedDateTime monday = ZonedDateTime.of(2021, 3, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        IndexedMemoryGradeBook<Grade> weekBook = new IndexedMemoryGradeBook<>("week", 10);
+        Grade sunday = GradeTesting.grade("test", PERCENT, 90, monday.minusDays(1));
+        Grade mondayPercent = GradeTesting.grade("test", PERCENT, 90, monday);
+        Grade wednesday = GradeTesting.grade("test", LETTER, 90, monday.plusDays(2));
+        Grade fridayPercent = GradeTesting.grade("test", PERCENT, 90,
+                monday.plusDays(4).withZoneSameInstant(ZoneId.of("America/New_York")));
+        Grade nextMonday = GradeTesting.grade("test", PERCENT, 90, monday.plusWeeks(1));
+        weekBook.record(Arrays.asList(nextMonday, fridayPercent, wednesday, sunday, mondayPercent));
+
+        assertEquals(Arrays.asList(mondayPercent, wednesday, fridayPercent),
+                weekBook.findBetween(monday, monday.plusWeeks(1)));
+        assertEquals(Arrays.asList(mondayPercent, fridayPercent),
+                weekBook.findBetween(IndexedMemoryGradeBook.GRADING_SYSTEM_INDEX, PERCENT, monday, monday.plusWeeks(1)));
+        assertTrue(weekBook.findBetween(monday.plusWeeks(1), monday).isEmpty());
+
+        weekBook.erase(fridayPercent);
+        assertEquals(Collections.singletonList(mondayPercent),
+                weekBook.findBetween(IndexedMemoryGradeBook.GRADING_SYSTEM_INDEX, PERCENT, monday, monday.plusWeeks(1)));
+        assertEquals(Arrays.asList(sunday, mondayPercent, nextMonday), weekBook.findByGradingSystem(PERCENT));
+    }
+
+    @Test
+    void recordLimits() {
+
+        assertThrows(IllegalArgumentException.class, () -> gradeBook.record(grade("a1", PERCENT, "carol", "math")));
+        assertThrows(IllegalArgumentException.class, () -> gradeBook.addExtensionIndex("term"));
+        assertThrows(IllegalStateException.class, () -> gradeBook.record(Arrays.asList(
+                grade("c1", PERCENT, "carol", "math"), grade("c2", PERCENT, "carol", "art"))));
+
+        gradeBook.record(grade("c1", PERCENT, "carol", "math"));
+        assertThrows(IllegalStateException.class, () -> gradeBook.record(grade("c2", PERCENT, "carol", "art")));
+        assertEquals(4, gradeBook.findAll().size());
+    }
+
+    private static ManagedGrade grade(final String id, final String gradingSystem, final String student,
+                                      final String course) {
+
+        Grade grade = new GradeBuilder(false).id(id).type("test").gradingSystem(gradingSystem).numericValue(90)
+                .extension("term", "fall")
+                .reference("student", GradeReferenceBuilder.builder(false).id(student).type("student").build())
+                .build();
+        return new BasicManagedGrade(grade, Collections.singletonMap("course", course));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.GradeTesting;
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.model.GradeRank;
+import com.dryxtech.grade.model.RankMode;
+import com.dryxtech.grade.util.GradeRanker;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaderboardTest {
+
+    private static final String ELO = "game.rating.chess.elo";
+    private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2021, 6, 1, 9, 0, 0, 0, ZoneId.of("UTC"));
+
+    @Test
+    void followGradeBook() {
+
+        ObservableGradeBook<Grade> gradeBook = new ObservableGradeBook<>(new SimpleMemoryGradeBook<>());
+        Grade first = grade(ELO, 1500, 0);
+        gradeBook.record(first);
+        gradeBook.record(grade("other", 3000, 0));
+
+        Leaderboard<Grade> leaderboard = Leaderboard.attach(gradeBook, true, grade -> ELO.equals(grade.getGradingSystem()));
+        assertEquals(1, leaderboard.size());
+
+        Grade second = grade(ELO, 1700, 1);
+        Grade third = grade(ELO, 1500, 2);
+        Grade fourth = grade(ELO, 1200, 3);
+        gradeBook.record(second);
+        gradeBook.record(third);
+        gradeBook.record(fourth);
+
+        assertEquals(4, leaderboard.size());
+        assertSame(second, leaderboard.get(0));
+        assertEquals(2, leaderboard.rankOf(third, RankMode.DENSE));
+        assertEquals(4, leaderboard.rankOf(fourth, RankMode.COMPETITION));
+        assertEquals(3, leaderboard.rankOf(fourth, RankMode.DENSE));
+        assertEquals(3, leaderboard.countAbove(new BigDecimal(1200)));
+        assertEquals(1, leaderboard.countBelow(new BigDecimal(1500)));
+
+        List<GradeRank> window = leaderboard.rankWindow(1, 2, RankMode.COMPETITION);
+        assertEquals(2, window.size());
+        assertSame(first, window.get(0).getGrade());
+        assertSame(third, window.get(1).getGrade());
+        assertEquals(2, window.get(0).getRank());
+        assertEquals(2, window.get(1).getRank());
+
+        assertTrue(gradeBook.erase(second));
+        assertFalse(leaderboard.contains(second));
+        assertEquals(1, leaderboard.rankOf(first, RankMode.DENSE));
+
+        gradeBook.erase(grade -> grade.getNumericValue().intValue() == 1500);
+        assertEquals(1, leaderboard.size());
+        gradeBook.eraseAll();
+        assertEquals(0, leaderboard.size());
+        assertTrue(leaderboard.top(10, RankMode.DENSE).isEmpty());
+    }
+
+    @Test
+    void sameAsGradeRanker() {
+
+        Random random = new Random(17);
+        ObservableGradeBook<Grade> gradeBook = new ObservableGradeBook<>(new SimpleMemoryGradeBook<>());
+        Leaderboard<Grade> leaderboard = Leaderboard.attach(gradeBook, false, grade -> true);
+
+        for (int i = 0; i < 400; i++) {
+            gradeBook.record(grade(ELO, 1000 + random.nextInt(50), random.nextInt(10)));
+            if (i % 3 == 0) {
+                List<Grade> grades = new ArrayList<>(gradeBook.findAll());
+                gradeBook.erase(grades.get(random.nextInt(grades.size())));
+            }
+        }
+
+        List<Grade> grades = new ArrayList<>(gradeBook.findAll());
+        for (RankMode mode : RankMode.values()) {
+            List<GradeRank> expected = GradeRanker.rank(grades, false, mode);
+            List<GradeRank> actual = leaderboard.rankWindow(0, grades.size(), mode);
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertSame(expected.get(i).getGrade(), actual.get(i).getGrade());
+                assertEquals(expected.get(i).getRank(), actual.get(i).getRank());
+                assertEquals(expected.get(i).getRank(), leaderboard.rankOf(expected.get(i).getGrade(), mode));
+            }
+        }
+    }
+
+    private static Grade grade(final String gradingSystem, final int rating, final int seconds) {
+        return GradeTesting.grade("ladder", gradingSystem, rating, TIMESTAMP.plusSeconds(seconds));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.GradeTesting;
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.util.RollingWindow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class RollingGradeAggregatorTest {
+
+    private static final String INSPECTION = "restaurant.inspection.nyc";
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2021, 3, 31, 12, 0, 0, 0, ZoneOffset.UTC);
+
+    @Test
+    void followGradeBook() {
+
+        ObservableGradeBook<Grade> gradeBook = new ObservableGradeBook<>(new SimpleMemoryGradeBook<>());
+        gradeBook.record(grade("downtown", 12, 40));
+
+        RollingGradeAggregator<Grade> aggregator = RollingGradeAggregator.attach(gradeBook,
+                () -> RollingWindow.sliding(Duration.ofDays(30), 30), Clock.fixed(NOW.toInstant(), ZoneOffset.UTC));
+        Grade recent = grade("downtown", 20, 2);
+        gradeBook.record(Arrays.asList(grade("downtown", 10, 5), recent, grade("uptown", 7, 1)));
+
+        assertEquals(2, aggregator.getCount(INSPECTION, "downtown"));
+        assertEquals(new BigDecimal(30), aggregator.getSum(INSPECTION, "downtown"));
+        assertEquals(Optional.of(new BigDecimal(15)), aggregator.getAverage(INSPECTION, "downtown"));
+        assertEquals(Optional.of(new BigDecimal(7)), aggregator.getAverage(INSPECTION, "uptown"));
+        assertEquals(new TreeSet<>(Arrays.asList("downtown", "uptown")), aggregator.getTypes(INSPECTION));
+
+        gradeBook.record(grade("downtown", 99, -90));
+        assertEquals(Optional.of(new BigDecimal(15)), aggregator.getAverage(INSPECTION, "downtown"));
+
+        gradeBook.erase(recent);
+        assertEquals(Optional.of(BigDecimal.TEN), aggregator.getAverage(INSPECTION, "downtown"));
+        assertFalse(aggregator.getAverage(INSPECTION, "midtown").isPresent());
+        assertEquals(0, aggregator.getCount("other", "downtown"));
+    }
+
+    @Test
+    void eraseGradeNeverTakenIn() {
+
+        ObservableGradeBook<Grade> gradeBook = new ObservableGradeBook<>(new SimpleMemoryGradeBook<>());
+        MovableClock clock = new MovableClock(NOW.toInstant());
+        RollingGradeAggregator<Grade> aggregator = RollingGradeAggregator.attach(gradeBook,
+                () -> RollingWindow.sliding(Duration.ofDays(30), 30), clock);
+
+        Grade future = grade("downtown", 90, -10);
+        gradeBook.record(future);
+        assertEquals(0, aggregator.getCount(INSPECTION, "downtown"));
+
+        clock.instant = NOW.plusDays(10).toInstant();
+        gradeBook.record(grade("downtown", 50, -10));
+        assertEquals(Optional.of(new BigDecimal(50)), aggregator.getAverage(INSPECTION, "downtown"));
+
+        gradeBook.erase(future);
+        assertEquals(1, aggregator.getCount(INSPECTION, "downtown"));
+        assertEquals(Optional.of(new BigDecimal(50)), aggregator.getAverage(INSPECTION, "downtown"));
+    }
+
+    private static Grade grade(final String type, final int numericValue, final int daysAgo) {
+        return GradeTesting.grade(type, INSPECTION, numericValue, NOW.minusDays(daysAgo));
+    }
+
+    private static final class MovableClock extends Clock {
+
+        private Instant instant;
+
+        private MovableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return Clock.fixed(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
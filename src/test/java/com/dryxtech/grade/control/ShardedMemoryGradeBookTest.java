@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.model.GradeBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedMemoryGradeBookTest {
+
+    private static final String PERCENT = "academic.percent.standard.us";
+
+    @Test
+    void recordAndErase() {
+
+        ShardedMemoryGradeBook<Grade> gradeBook = new ShardedMemoryGradeBook<>("sharded", 4, 3);
+        Grade low = grade(60);
+        Grade mid = grade(75);
+        Grade high = grade(90);
+        gradeBook.record(Arrays.asList(low, mid));
+        gradeBook.record(high);
+
+        assertEquals(3, gradeBook.size());
+        assertEquals(new HashSet<>(Arrays.asList(low, mid, high)), new HashSet<>(gradeBook.findAll()));
+        assertThrows(IllegalStateException.class, () -> gradeBook.record(grade(50)));
+
+        assertTrue(gradeBook.erase(low));
+        assertFalse(gradeBook.erase(low));
+        assertEquals(Arrays.asList(high), new ArrayList<>(gradeBook.erase(grade -> grade.getNumericValue().intValue() > 80)));
+        assertEquals(1, gradeBook.eraseCount(grade -> true));
+        assertEquals(0, gradeBook.size());
+        assertTrue(gradeBook.eraseAll().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new ShardedMemoryGradeBook<>("none", 0, 1));
+    }
+
+    @Test
+    void recordConcurrently() throws Exception {
+
+        int threads = 8;
+        int gradesPerThread = 2_000;
+        ShardedMemoryGradeBook<Grade> gradeBook = new ShardedMemoryGradeBook<>("sharded", 16, threads * gradesPerThread);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> IntStream.range(0, gradesPerThread)
+                        .forEach(i -> gradeBook.record(grade(i % 101)))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * gradesPerThread, gradeBook.size());
+        assertThrows(IllegalStateException.class, () -> gradeBook.record(grade(50)));
+
+        Collection<Grade> found = gradeBook.find(grade -> grade.getNumericValue().intValue() == 100);
+        assertEquals(threads * (gradesPerThread / 101), found.size());
+        assertEquals(threads * gradesPerThread, gradeBook.findAll().stream().map(Grade::getId)
+                .collect(Collectors.toSet()).size());
+
+        Set<Thread> searchThreads = new HashSet<>();
+        Collection<Grade> erased = gradeBook.erase(grade -> {
+            searchThreads.add(Thread.currentThread());
+            return grade.getNumericValue().intValue() == 100;
+        });
+        assertEquals(found.size(), erased.size());
+        assertEquals(Collections.singleton(Thread.currentThread()), searchThreads);
+    }
+
+    private static Grade grade(final int numericValue) {
+        return new GradeBuilder(true).type("test").gradingSystem(PERCENT).numericValue(numericValue).build();
+    }
+}
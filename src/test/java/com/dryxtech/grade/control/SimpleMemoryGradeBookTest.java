@@ -125,6 +125,16 @@ class SimpleMemoryGradeBookTest {
         assertTrue(erasedGrades.contains(tooColdGrade));
     }
 
+    @Test
+    void eraseGradeCount() {
+
+        int erasedCount = gradeBook.eraseCount(grade -> !grade.getId().equals("just right"));
+
+        assertEquals(2, erasedCount);
+        assertEquals(Collections.singletonList(justRightGrade), rawList);
+        assertEquals(0, gradeBook.eraseCount(grade -> grade.getId().equals("too hot")));
+    }
+
     @Test
     void findGrades() {
 
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.model.BasicTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimpleMemoryTestBookTest {
+
+    private final BasicTest midterm = BasicTest.builder().id("midterm").name("Midterm Exam").build();
+    private final BasicTest quiz = BasicTest.builder().id("quiz").name("Pop Quiz").build();
+    private final BasicTest finalExam = BasicTest.builder().id("final").name("Final Exam").build();
+
+    private List<BasicTest> rawList;
+    private SimpleMemoryTestBook<BasicTest> testBook;
+
+    @BeforeEach
+    void setup() {
+
+        this.rawList = new ArrayList<>(Arrays.asList(midterm, quiz, finalExam));
+        this.testBook = new SimpleMemoryTestBook<>(SimpleMemoryTestBookTest.class.getSimpleName(), rawList, 4);
+    }
+
+    @Test
+    void eraseTests() {
+
+        Collection<BasicTest> erasedTests = testBook.erase(test -> test.getName().endsWith("Exam"));
+
+        assertEquals(Arrays.asList(midterm, finalExam), erasedTests);
+        assertEquals(Collections.singletonList(quiz), rawList);
+        assertEquals(Collections.emptyList(), testBook.erase(test -> test.getId().equals("midterm")));
+    }
+
+    @Test
+    void eraseTestCount() {
+
+        int erasedCount = testBook.eraseCount(test -> !test.getId().equals("quiz"));
+
+        assertEquals(2, erasedCount);
+        assertEquals(Collections.singletonList(quiz), rawList);
+        assertEquals(Collections.singletonList(quiz), testBook.findAll());
+        assertEquals(0, testBook.eraseCount(test -> test.getId().equals("final")));
+    }
+
+    @Test
+    void eraseKeepsOrder() {
+
+        testBook.record(BasicTest.builder().id("retake").name("Midterm Retake").build());
+
+        assertEquals(1, testBook.eraseCount(test -> test.getId().equals("quiz")));
+        assertEquals(Arrays.asList("midterm", "final", "retake"), testIds());
+        assertEquals(Collections.singletonList(midterm), testBook.erase(test -> test.getName().equals("Midterm Exam")));
+        assertEquals(Arrays.asList("final", "retake"), testIds());
+    }
+
+    private List<String> testIds() {
+        return testBook.findAll().stream().map(BasicTest::getId).collect(Collectors.toList());
+    }
+}
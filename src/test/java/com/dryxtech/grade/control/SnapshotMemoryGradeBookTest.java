@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.control;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.model.GradeBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotMemoryGradeBookTest {
+
+    private static final String PERCENT = "academic.percent.standard.us";
+
+    @Test
+    void readSnapshots() {
+
+        SnapshotMemoryGradeBook<Grade> gradeBook = new SnapshotMemoryGradeBook<>("snapshot", 3);
+        Grade low = grade(60);
+        Grade mid = grade(75);
+        Grade high = grade(90);
+        gradeBook.record(Arrays.asList(low, mid));
+
+        Collection<Grade> snapshot = gradeBook.findAll();
+        gradeBook.record(high);
+
+        assertEquals(Arrays.asList(low, mid), snapshot);
+        assertEquals(Arrays.asList(low, mid, high), gradeBook.findAll());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.add(high));
+        assertThrows(IllegalStateException.class, () -> gradeBook.record(grade(50)));
+        assertEquals(Collections.singletonList(high), gradeBook.find(grade -> grade.getNumericValue().intValue() > 80));
+    }
+
+    @Test
+    void eraseGrades() {
+
+        SnapshotMemoryGradeBook<Grade> gradeBook = new SnapshotMemoryGradeBook<>();
+        Grade low = grade(60);
+        Grade mid = grade(75);
+        Grade high = grade(90);
+        gradeBook.record(Arrays.asList(low, mid, high));
+
+        assertTrue(gradeBook.erase(mid));
+        assertFalse(gradeBook.erase(mid));
+        assertEquals(Collections.singletonList(low), gradeBook.erase(grade -> grade.getNumericValue().intValue() < 70));
+        assertEquals(0, gradeBook.eraseCount(grade -> false));
+        assertEquals(Collections.singletonList(high), gradeBook.eraseAll());
+        assertEquals(0, gradeBook.size());
+    }
+
+    private static Grade grade(final int numericValue) {
+        return new GradeBuilder(true).type("test").gradingSystem(PERCENT).numericValue(numericValue).build();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.grader;
+
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.api.GradeException;
+import com.dryxtech.grade.control.GradeConstants;
+import com.dryxtech.grade.system.GradingSystemRegistry;
+import com.dryxtech.grade.system.ZGradingSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.dryxtech.grade.GradeTesting.GRADE_TIMESTAMP;
+import static com.dryxtech.grade.GradeTesting.grade;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradeCurveTest {
+
+    private GradingSystemRegistry registry;
+    private List<Grade> grades;
+
+    @BeforeEach
+    void setUp() {
+        registry = new GradingSystemRegistry();
+        registry.registerSystem("z", new ZGradingSystem());
+        grades = IntStream.of(2, 4, 4, 4, 5, 5, 7, 9)
+                .mapToObj(numericValue -> grade("exam", "raw", numericValue, GRADE_TIMESTAMP))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void zScore() throws GradeException {
+
+        List<Grade> curved = new GraderFactory(registry).createNumberGrader("z").curve(grades, GradeCurve.zScore(75, 10));
+
+        assertEquals(Arrays.asList("60.00", "70.00", "70.00", "70.00", "75.00", "75.00", "85.00", "95.00"), values(curved));
+        for (int i = 0; i < grades.size(); i++) {
+            Grade grade = curved.get(i);
+            assertEquals(grades.get(i).getId(), grade.getReference(GradeCurve.ORIGINAL_REFERENCE)
+                    .orElseThrow(IllegalStateException::new).getId());
+            assertEquals(GradeConstants.Z_GRADING_SYSTEM, grade.getGradingSystem());
+            assertEquals(grades.get(i).getTimestamp(), grade.getTimestamp());
+            assertTrue(grade.getTextValue().length() > 0);
+        }
+    }
+
+    @Test
+    void percentileAndLinear() throws GradeException {
+
+        NumberGrader grader = new GraderFactory(registry).createNumberGrader("z");
+
+        assertEquals(Arrays.asList("6.25", "31.25", "31.25", "31.25", "62.50", "62.50", "81.25", "93.75"),
+                values(grader.curve(grades, GradeCurve.percentile())));
+        assertEquals(Arrays.asList("50.0", "60.0", "60.0", "60.0", "65.0", "65.0", "75.0", "85.0"),
+                values(grader.curve(grades, GradeCurve.linear(50, 85).withScale(1))));
+        assertThrows(IllegalArgumentException.class, () -> GradeCurve.linear(1, 0));
+    }
+
+    @Test
+    void parallel() throws GradeException {
+
+        List<Grade> cohort = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            cohort.add(grade("exam", "raw", i % 97, GRADE_TIMESTAMP));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            GraderOptions options = GraderOptions.defaults().withParallelThreshold(64).withForkJoinPool(pool);
+            NumberGrader parallelGrader = new GraderFactory(registry, options).createNumberGrader("z");
+            NumberGrader grader = new GraderFactory(registry).createNumberGrader("z");
+
+            for (GradeCurve curve : Arrays.asList(GradeCurve.zScore(70, 12), GradeCurve.percentile(), GradeCurve.linear(0, 100))) {
+                assertEquals(values(grader.curve(cohort, curve)), values(parallelGrader.curve(cohort, curve)));
+            }
+            assertThrows(GradeException.class,
+                    () -> parallelGrader.curve(cohort, GradeCurve.linear(3_000_000_000d, 4_000_000_000d)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void noRange() throws GradeException {
+        NumberGrader grader = new GraderFactory(registry).createNumberGrader("z");
+        assertThrows(GradeException.class, () -> grader.curve(grades, GradeCurve.linear(3_000_000_000d, 4_000_000_000d)));
+    }
+
+    private static List<String> values(final List<Grade> grades) {
+        return grades.stream().map(grade -> grade.getNumericValue().toPlainString()).collect(Collectors.toList());
+    }
+}
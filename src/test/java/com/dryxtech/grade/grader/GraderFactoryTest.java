@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.grader;
+
+import com.dryxtech.grade.api.GradeException;
+import com.dryxtech.grade.api.GradeValue;
+import com.dryxtech.grade.system.GradingSystemNotFoundException;
+import com.dryxtech.grade.system.GradingSystemRegistry;
+import com.dryxtech.grade.system.ZGradingSystem;
+import com.dryxtech.grade.util.FixedPointMath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GraderFactoryTest {
+
+    private GradingSystemRegistry registry;
+    private GraderFactory graderFactory;
+
+    @BeforeEach
+    void setUp() {
+        registry = new GradingSystemRegistry();
+        registry.registerSystem("z", new ZGradingSystem());
+        graderFactory = new GraderFactory(registry);
+    }
+
+    @Test
+    void cachesGraders() throws GradeException {
+        assertSame(graderFactory.createNumberGrader("z"), graderFactory.createNumberGrader("z"));
+        assertSame(graderFactory.createNumberAverageGrader("z"), graderFactory.createNumberAverageGrader("z"));
+        assertSame(graderFactory.createGradeValueAverageGrader("z"), graderFactory.createGradeValueAverageGrader("z"));
+        assertSame(graderFactory.createGradeWeightedAverageGrader("z"), graderFactory.createGradeWeightedAverageGrader("z"));
+        assertNotSame(graderFactory.createNumberGrader("z"), graderFactory.createNumberAverageGrader("z"));
+    }
+
+    @Test
+    void evictsReplacedSystem() throws GradeException {
+        NumberGrader grader = graderFactory.createNumberGrader("z");
+
+        registry.registerSystem("z", new ZGradingSystem());
+        NumberGrader replaced = graderFactory.createNumberGrader("z");
+        assertNotSame(grader, replaced);
+        assertEquals("WP", replaced.grade(92.5).getTextValue());
+
+        registry.unregisterSystem("z");
+        assertThrows(GradingSystemNotFoundException.class, () -> graderFactory.createNumberGrader("z"));
+        assertThrows(GradingSystemNotFoundException.class, () -> graderFactory.createNumberGrader(null));
+    }
+
+    @Test
+    void clearCache() throws GradeException {
+        NumberGrader grader = graderFactory.createNumberGrader("z");
+        graderFactory.clearCache();
+        assertNotSame(grader, graderFactory.createNumberGrader("z"));
+    }
+
+    @Test
+    void fixedPointOptions() throws GradeException {
+        GraderFactory fixedPointFactory = new GraderFactory(registry, GraderOptions.defaults().withFixedPoint(true));
+        List<Number> values = Arrays.asList(90, 95L, 92.5d, new BigDecimal("92.5"));
+
+        GradeValue gradeValue = fixedPointFactory.createNumberAverageGrader("z").grade(values);
+        assertEquals(new BigDecimal("92.500000000"), gradeValue.getNumericValue());
+        assertEquals(graderFactory.createNumberAverageGrader("z").grade(values).getTextValue(), gradeValue.getTextValue());
+
+        NumberGrader numberGrader = fixedPointFactory.createNumberGrader("z");
+        assertEquals("WP", numberGrader.gradeScaled(FixedPointMath.toScaled(92L)).getTextValue());
+        assertEquals(numberGrader.classify(new BigDecimal("-0.000000001")), numberGrader.classifyScaled(-1L));
+    }
+
+    @Test
+    void parallelOptions() throws GradeException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            GraderOptions options = GraderOptions.defaults().withParallelThreshold(8).withForkJoinPool(pool);
+            GraderFactory parallelFactory = new GraderFactory(registry, options);
+            List<Number> values = IntStream.range(0, 1000)
+                    .mapToObj(n -> (n % 2 == 0) ? (Number) (n % 101) : new BigDecimal(n % 97).movePointLeft(n % 3))
+                    .collect(Collectors.toList());
+
+            assertEquals(graderFactory.createNumberAverageGrader("z").grade(values),
+                    parallelFactory.createNumberAverageGrader("z").grade(values));
+            assertEquals(new GraderFactory(registry, GraderOptions.defaults().withFixedPoint(true))
+                            .createNumberAverageGrader("z").grade(values),
+                    new GraderFactory(registry, options.withFixedPoint(true)).createNumberAverageGrader("z").grade(values));
+            assertSame(pool, options.getForkJoinPool());
+            assertThrows(IllegalArgumentException.class, () -> options.withParallelThreshold(0));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
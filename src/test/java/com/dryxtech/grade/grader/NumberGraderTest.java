@@ -21,8 +21,19 @@ import com.dryxtech.grade.api.GradeException;
 import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.Grader;
 import com.dryxtech.grade.api.GradingSystem;
+import com.dryxtech.grade.system.GradingSystemRegistry;
+import com.dryxtech.grade.model.BasicGradeValue;
+import com.dryxtech.grade.system.ZGradingSystem;
+import com.dryxtech.grade.util.GradeMathUtil;
+import com.dryxtech.grade.util.GradeStatistics;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class NumberGraderTest {
@@ -34,4 +45,85 @@ class NumberGraderTest {
         GradeValue result = grader.grade(77);
         assertEquals("T", result.getTextValue());
     }
+
+    @Test
+    void gradeDouble() throws GradeException {
+        NumberGrader grader = new NumberGrader(new ZGradingSystem());
+
+        assertEquals(grader.grade(new BigDecimal("92.5")), grader.gradeDouble(92.5));
+        assertEquals(grader.grade(new BigDecimal("92.5")), grader.grade(92.5));
+        assertThrows(GradeException.class, () -> grader.gradeDouble(Double.NaN));
+        assertEquals("T", new NumberGrader(GradeTesting.mockGradingSystem()).gradeDouble(1.5).getTextValue());
+    }
+
+    @Test
+    void gradeLong() throws GradeException {
+        GradingSystemRegistry registry = new GradingSystemRegistry();
+        GradingSystem gradingSystem = new ZGradingSystem();
+        registry.registerSystem(gradingSystem.getId(), gradingSystem);
+        NumberGrader grader = new NumberGrader(gradingSystem, registry);
+
+        assertEquals(grader.grade(new BigDecimal(77)), grader.gradeLong(77L));
+        assertEquals(grader.grade(new BigDecimal(77)), grader.grade(77));
+        assertEquals(grader.grade(new BigDecimal(Integer.MAX_VALUE)), grader.gradeLong(Integer.MAX_VALUE));
+        assertThrows(GradeException.class, () -> grader.gradeLong(Long.MAX_VALUE));
+
+        GradeValue[] results = grader.gradeLongs(new long[]{-5, 50, 100});
+        assertEquals(3, results.length);
+        assertEquals(grader.grade(-5).getTextValue(), results[0].getTextValue());
+        assertEquals(grader.grade(100).getTextValue(), results[2].getTextValue());
+        assertEquals(grader.grade(0.5).getTextValue(), grader.gradeDoubles(new double[]{0.5})[0].getTextValue());
+    }
+
+    @Test
+    void gradeSnapToRange() throws GradeException {
+        GradingSystem gradingSystem = new ZGradingSystem();
+        NumberGrader grader = new NumberGrader(gradingSystem, null, GraderOptions.defaults().withSnapToRange(true));
+
+        GradeValue result = grader.grade(92.5);
+        assertEquals("WP", result.getTextValue());
+        assertEquals(gradingSystem.getMidNumericValue("WP").orElse(null), result.getNumericValue());
+        assertSame(result, grader.gradeLong(93));
+        assertSame(result, grader.grade(new BigDecimal("92.9")));
+        assertThrows(GradeException.class, () -> grader.gradeDouble(Double.NaN));
+        assertEquals("T", new NumberGrader(GradeTesting.mockGradingSystem(), null,
+                GraderOptions.defaults().withSnapToRange(true)).grade(77).getTextValue());
+    }
+
+    @Test
+    void distributeParallel() throws GradeException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            GraderOptions options = GraderOptions.defaults().withParallelThreshold(8).withForkJoinPool(pool);
+            List<GradeValue> gradeValues = parallelGradeValues();
+
+            assertArrayEquals(new NumberGrader(new ZGradingSystem()).distribute(gradeValues).getCounts(),
+                    new NumberGrader(new ZGradingSystem(), null, options).distribute(gradeValues).getCounts());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void statisticsParallel() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            GraderOptions options = GraderOptions.defaults().withParallelThreshold(8).withForkJoinPool(pool);
+            List<GradeValue> gradeValues = parallelGradeValues();
+
+            GradeStatistics statistics = new NumberGrader(new ZGradingSystem(), null, options).statistics(gradeValues);
+            assertEquals(gradeValues.size(), statistics.getCount());
+            assertEquals(GradeMathUtil.calculateStatistics(gradeValues).getMean().getAsDouble(),
+                    statistics.getMean().getAsDouble(), 1e-9);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<GradeValue> parallelGradeValues() {
+        return IntStream.range(0, 1000)
+                .mapToObj(n -> (n % 2 == 0) ? new BigDecimal(n % 101) : new BigDecimal(n % 97).movePointLeft(n % 3))
+                .map(value -> new BasicGradeValue(value, "", "z"))
+                .collect(Collectors.toList());
+    }
 }
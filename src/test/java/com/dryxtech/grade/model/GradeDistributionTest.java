@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dryxtech.grade.model;
+
+import com.dryxtech.grade.api.GradeValue;
+import com.dryxtech.grade.api.GradingSystem;
+import com.dryxtech.grade.api.PerformanceLevel;
+import com.dryxtech.grade.system.ZGradingSystem;
+import com.dryxtech.grade.util.GradeMathUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GradeDistributionTest {
+
+    private GradingSystem gradingSystem;
+    private GradeValueRangeIndex rangeIndex;
+    private List<GradeValue> gradeValues;
+
+    @BeforeEach
+    void setUp() {
+        gradingSystem = new ZGradingSystem();
+        rangeIndex = ((BasicGradingSystem) gradingSystem).getRangeIndex();
+        gradeValues = IntStream.rangeClosed(0, 2000)
+                .mapToObj(n -> new BigDecimal(n).movePointLeft(1))
+                .map(value -> new BasicGradeValue(value, gradingSystem.getTextValue(value).orElse(""), gradingSystem.getId()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void countsPerRange() {
+        GradeDistribution distribution = GradeMathUtil.calculateGradeDistribution(gradeValues, rangeIndex);
+
+        assertEquals(gradeValues.size(), distribution.getTotalCount());
+        assertEquals(0, distribution.getUnmatchedCount());
+        assertEquals(GradeMathUtil.calculateGradeDistribution(gradeValues), distribution.toMap());
+        assertEquals(GradeMathUtil.calculateGradeDistribution(gradeValues).toString(), distribution.toMap().toString());
+        assertEquals(distribution.getCounts().length, rangeIndex.size());
+    }
+
+    @Test
+    void performanceLevels() {
+        GradeDistribution distribution = new GradeDistribution(rangeIndex).addAll(gradeValues);
+
+        long total = 0;
+        for (PerformanceLevel performanceLevel : PerformanceLevel.values()) {
+            long expected = gradeValues.stream().filter(gradeValue -> gradingSystem
+                    .getPerformanceLevel(gradeValue.getNumericValue()).orElse(null) == performanceLevel).count();
+            assertEquals(expected, distribution.getCount(performanceLevel));
+            assertEquals(expected, (long) distribution.getPerformanceLevelDistribution().getOrDefault(performanceLevel, 0L));
+            total += expected;
+        }
+        assertEquals(gradeValues.size(), total);
+    }
+
+    @Test
+    void mergeParallel() {
+        GradeDistribution sequential = new GradeDistribution(rangeIndex).addAll(gradeValues).add(-1L).add(Double.NaN);
+        GradeDistribution parallel = gradeValues.parallelStream().collect(GradeDistribution.collector(rangeIndex))
+                .merge(new GradeDistribution(rangeIndex).add(new BigDecimal(-1)).addIndex(-1));
+
+        assertArrayEquals(sequential.getCounts(), parallel.getCounts());
+        assertEquals(1, parallel.getUnmatchedCount());
+        assertEquals(sequential.getTotalCount(), parallel.getTotalCount());
+        assertThrows(IllegalArgumentException.class, () -> parallel.merge(
+                new GradeDistribution(new GradeValueRangeIndex(rangeIndex.getRanges().subList(0, 2)))));
+    }
+}
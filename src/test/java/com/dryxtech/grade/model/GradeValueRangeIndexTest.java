@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.model;
+
+import com.dryxtech.grade.api.GradeValueRange;
+import com.dryxtech.grade.api.PerformanceLevel;
+import com.dryxtech.grade.system.ZGradingSystem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradeValueRangeIndexTest {
+
+    private GradeValueRangeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GradeValueRangeIndex(Arrays.asList(
+                range("PASS", 1, true, 1, true),
+                range("FAIL", 0, true, 1, false)));
+    }
+
+    @Test
+    void indexOf() {
+        assertEquals(0, index.indexOf(BigDecimal.ZERO));
+        assertEquals(0, index.indexOf(new BigDecimal("0.999999")));
+        assertEquals(1, index.indexOf(BigDecimal.ONE));
+        assertEquals(-1, index.indexOf(new BigDecimal("1.000001")));
+        assertEquals(-1, index.indexOf(new BigDecimal(-1)));
+        assertEquals(-1, index.indexOf(null));
+    }
+
+    @Test
+    void indexOfLong() {
+        assertEquals(0, index.indexOf(0L));
+        assertEquals(1, index.indexOf(1L));
+        assertEquals(-1, index.indexOf(2L));
+        assertEquals(-1, index.indexOf(-1L));
+        assertEquals(-1, index.indexOf(Long.MAX_VALUE));
+        assertEquals(-1, index.indexOf(Long.MIN_VALUE));
+
+        GradeValueRangeIndex fractional = new GradeValueRangeIndex(Arrays.asList(
+                range("HIGH", new BigDecimal("1.5"), false, new BigDecimal("3.5"), true),
+                range("MID", new BigDecimal("0.2"), true, new BigDecimal("0.8"), true),
+                range("LOW", new BigDecimal("-2.5"), true, new BigDecimal("0.2"), false)));
+        assertEquals(-1, fractional.indexOf(-3L));
+        assertEquals(0, fractional.indexOf(-2L));
+        assertEquals(0, fractional.indexOf(0L));
+        assertEquals(-1, fractional.indexOf(1L));
+        assertEquals(2, fractional.indexOf(2L));
+        assertEquals(2, fractional.indexOf(3L));
+        assertEquals(-1, fractional.indexOf(4L));
+    }
+
+    @Test
+    void indexOfScaled() {
+        assertEquals(0, index.indexOfScaled(0L));
+        assertEquals(0, index.indexOfScaled(999_999_999L));
+        assertEquals(1, index.indexOfScaled(1_000_000_000L));
+        assertEquals(-1, index.indexOfScaled(1_000_000_001L));
+        assertEquals(-1, index.indexOfScaled(-1L));
+
+        GradeValueRangeIndex fractional = new GradeValueRangeIndex(Arrays.asList(
+                range("HIGH", new BigDecimal("0.67"), true, new BigDecimal("1E10"), true),
+                range("LOW", new BigDecimal("0.0000000005"), false, new BigDecimal("0.67"), false)));
+        assertEquals(-1, fractional.indexOfScaled(0L));
+        assertEquals(0, fractional.indexOfScaled(1L));
+        assertEquals(0, fractional.indexOfScaled(669_999_999L));
+        assertEquals(1, fractional.indexOfScaled(670_000_000L));
+        assertEquals(1, fractional.indexOfScaled(Long.MAX_VALUE));
+    }
+
+    @Test
+    void indexOfDouble() {
+        assertEquals(0, index.indexOf(0.0d));
+        assertEquals(0, index.indexOf(0.999999d));
+        assertEquals(1, index.indexOf(1.0d));
+        assertEquals(-1, index.indexOf(1.000001d));
+        assertEquals(-1, index.indexOf(Double.NaN));
+        assertEquals(-1, index.indexOf(Double.POSITIVE_INFINITY));
+
+        GradeValueRangeIndex fractional = new GradeValueRangeIndex(Arrays.asList(
+                range("HIGH", new BigDecimal("0.67"), true, BigDecimal.ONE, true),
+                range("LOW", BigDecimal.ZERO, true, new BigDecimal("0.67"), false)));
+        assertEquals(1, fractional.indexOf(0.67d));
+        assertEquals(0, fractional.indexOf(Math.nextDown(0.67d)));
+        assertEquals(1, fractional.indexOf(Math.nextUp(0.67d)));
+    }
+
+    @Test
+    void lookup() {
+        assertEquals("FAIL", index.lookup(new BigDecimal("0.5")).map(GradeValueRange::getTextValue).orElse(""));
+        assertEquals("PASS", index.lookup(BigDecimal.ONE).map(GradeValueRange::getTextValue).orElse(""));
+        assertFalse(index.lookup(BigDecimal.TEN).isPresent());
+    }
+
+    @Test
+    void getRanges() {
+        assertEquals(2, index.size());
+        assertEquals("FAIL", index.get(0).getTextValue());
+        assertEquals("PASS", index.get(1).getTextValue());
+        assertEquals(Arrays.asList(index.get(0), index.get(1)), index.getRanges());
+    }
+
+    @Test
+    void matchesLinearScan() {
+        ZGradingSystem gradingSystem = new ZGradingSystem();
+        GradeValueRangeIndex zIndex = new GradeValueRangeIndex(gradingSystem.getRanges());
+
+        IntStream.rangeClosed(-2000, 12000).mapToObj(n -> new BigDecimal(n).movePointLeft(2)).forEach(value ->
+                assertEquals(gradingSystem.getRanges().stream().filter(range -> range.inRange(value)).findFirst(),
+                        zIndex.lookup(value)));
+    }
+
+    @Test
+    void isContiguous() {
+        assertTrue(index.isContiguous());
+        assertFalse(new GradeValueRangeIndex(Arrays.asList(
+                range("HIGH", 2, false, 3, true),
+                range("LOW", 0, true, 2, false))).isContiguous());
+        assertTrue(new GradeValueRangeIndex(Collections.emptyList()).isContiguous());
+    }
+
+    @Test
+    void rejectsOverlappingRanges() {
+        assertThrows(IllegalArgumentException.class, () -> new GradeValueRangeIndex(Arrays.asList(
+                range("HIGH", 2, true, 3, true),
+                range("LOW", 0, true, 2, true))));
+        assertThrows(IllegalArgumentException.class, () -> new GradeValueRangeIndex(Arrays.asList(
+                range("HIGH", 1, true, 3, true),
+                range("LOW", 0, true, 2, false))));
+    }
+
+    private static BasicGradeValueRange range(String textValue, int start, boolean startInclusive,
+                                              int end, boolean endInclusive) {
+        return range(textValue, new BigDecimal(start), startInclusive, new BigDecimal(end), endInclusive);
+    }
+
+    private static BasicGradeValueRange range(String textValue, BigDecimal start, boolean startInclusive,
+                                              BigDecimal end, boolean endInclusive) {
+        return GradeValueRangeBuilder.builder().textValue(textValue)
+                .rangeStartValue(start).isRangeStartInclusive(startInclusive)
+                .rangeEndValue(end).isRangeEndInclusive(endInclusive)
+                .performanceLevel(PerformanceLevel.MEDIUM).build();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.system;
+
+import com.dryxtech.grade.api.GradingSystem;
+import com.dryxtech.grade.control.GradeConstants;
+import com.dryxtech.grade.util.FixedPointMath;
+import com.dryxtech.grade.util.GradeFileUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledGradingSystemTest {
+
+    @Test
+    void compileZGradingSystem() {
+        GradingSystem gradingSystem = new ZGradingSystem();
+        CompiledGradingSystem compiled = CompiledGradingSystem.compile(gradingSystem).orElseThrow(AssertionError::new);
+
+        assertEquals(101, compiled.getTableSize());
+        assertSame(gradingSystem, compiled.getSource());
+        assertEquals(gradingSystem.getId(), compiled.getId());
+        assertMatchesSource(gradingSystem, compiled, -20000, 20000);
+        assertEquals(Optional.of("VP"), compiled.getTextValue(new BigDecimal(Integer.MAX_VALUE)));
+        assertEquals(Optional.of("ZM"), compiled.getTextValue(new BigDecimal(-1000)));
+    }
+
+    @Test
+    void compileFractionalBoundaries() throws IOException {
+        GradingSystem gradingSystem = GradeFileUtil.loadBundledGradingSystem(
+                GradeConstants.STANDARD_GPA_PLUS_MINUS_ACADEMIC_SYSTEM + GradeConstants.GRADING_SYSTEM_FILE_EXTENSION);
+        CompiledGradingSystem compiled = CompiledGradingSystem.compile(gradingSystem).orElseThrow(AssertionError::new);
+
+        assertEquals(433, compiled.getTableSize());
+        assertMatchesSource(gradingSystem, compiled, -100, 500);
+        assertEquals(gradingSystem.getTextValue(new BigDecimal("0.67")), compiled.getTextValue(new BigDecimal("0.67")));
+        assertEquals(gradingSystem.getTextValue(new BigDecimal("0.6699")), compiled.getTextValue(new BigDecimal("0.6699")));
+    }
+
+    @Test
+    void compileSinglePointRanges() throws IOException {
+        GradingSystem gradingSystem = GradeFileUtil.loadBundledGradingSystem(
+                GradeConstants.STANDARD_BINARY_PASS_FAIL_SYSTEM + GradeConstants.GRADING_SYSTEM_FILE_EXTENSION);
+        CompiledGradingSystem compiled = CompiledGradingSystem.compile(gradingSystem).orElseThrow(AssertionError::new);
+
+        assertEquals(Optional.of("PASS"), compiled.getTextValue(BigDecimal.ONE));
+        assertEquals(Optional.of("FAIL"), compiled.getTextValue(new BigDecimal("0.999")));
+        assertFalse(compiled.getTextValue(new BigDecimal("1.001")).isPresent());
+    }
+
+    @Test
+    void registryCompilesOnRegister() {
+        GradingSystemRegistry registry = new GradingSystemRegistry();
+        GradingSystem gradingSystem = new ZGradingSystem();
+
+        registry.registerSystem("z", gradingSystem);
+        assertTrue(registry.lookupCompiledSystem("z").isPresent());
+        assertSame(gradingSystem, registry.lookupCompiledSystem(gradingSystem).map(CompiledGradingSystem::getSource).orElse(null));
+
+        registry.unregisterSystem("z");
+        assertFalse(registry.lookupCompiledSystem("z").isPresent());
+        assertFalse(registry.lookupCompiledSystem(gradingSystem).isPresent());
+    }
+
+    private static void assertMatchesSource(GradingSystem source, CompiledGradingSystem compiled, int from, int to) {
+        IntStream.rangeClosed(from, to).mapToObj(n -> new BigDecimal(n).movePointLeft(2)).forEach(value -> {
+            assertEquals(source.getTextValue(value), compiled.getTextValue(value));
+            assertEquals(source.getPerformanceLevel(value), compiled.getPerformanceLevel(value));
+            assertEquals(compiled.getRangeIndex().indexOf(value), compiled.indexOfScaled(FixedPointMath.toScaled(value)));
+        });
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.system;
+
+import com.dryxtech.grade.api.GradeConverter;
+import com.dryxtech.grade.api.GradeException;
+import com.dryxtech.grade.api.GradingSystem;
+import com.dryxtech.grade.model.GradeValueBuilder;
+import com.dryxtech.grade.system.converter.ChainedGradeConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradingSystemRegistryTest {
+
+    private GradingSystemRegistry registry;
+    private GradingSystem gradingSystem;
+
+    @BeforeEach
+    void setUp() {
+        registry = new GradingSystemRegistry();
+        gradingSystem = new ZGradingSystem();
+    }
+
+    @Test
+    void version() {
+        long version = registry.getVersion();
+
+        registry.registerSystem("z", gradingSystem);
+        assertEquals(version + 1, registry.getVersion());
+
+        registry.unregisterSystem("z");
+        assertEquals(version + 2, registry.getVersion());
+    }
+
+    @Test
+    void snapshot() {
+        registry.registerSystem("z", gradingSystem);
+
+        RegistrySnapshot snapshot = registry.snapshot();
+        assertSame(snapshot, registry.snapshot());
+        assertEquals(registry.getVersion(), snapshot.getVersion());
+        assertSame(gradingSystem, snapshot.lookupSystem("z").orElse(null));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getSystems().remove("z"));
+
+        registry.unregisterSystem("z");
+        assertTrue(snapshot.lookupSystem("z").isPresent());
+        assertNotSame(snapshot, registry.snapshot());
+        assertFalse(registry.snapshot().lookupSystem("z").isPresent());
+    }
+
+    @Test
+    void getRegisteredSystems() {
+        registry.registerSystem("z", gradingSystem);
+
+        Collection<GradingSystem> systems = registry.getRegisteredSystems();
+        registry.registerSystem("z2", new ZGradingSystem());
+        assertEquals(1, systems.size());
+        assertEquals(2, registry.getRegisteredSystems().size());
+    }
+
+    @Test
+    void nullIds() {
+        assertFalse(registry.lookupSystem(null).isPresent());
+        assertFalse(registry.lookupCompiledSystem((String) null).isPresent());
+        assertThrows(NullPointerException.class, () -> registry.registerSystem(null, gradingSystem));
+        assertThrows(NullPointerException.class, () -> registry.registerSystem("z", null));
+    }
+
+    @Test
+    void converters() {
+        GradeConverter converter = (gradeValue, targetGradingSystemId) -> gradeValue;
+        registry.registerSystem("z", gradingSystem);
+        registry.registerConverter("z", "other", converter);
+
+        assertSame(converter, registry.lookupConverter("z", "other").orElse(null));
+        assertFalse(registry.lookupConverter("other", "z").isPresent());
+        assertFalse(registry.lookupConverter(null, "z").isPresent());
+
+        int from = registry.ordinalOf("z");
+        int to = registry.ordinalOf("other");
+        assertTrue(from >= 0 && to >= 0 && from != to);
+        assertEquals(-1, registry.ordinalOf("unknown"));
+        assertSame(converter, registry.lookupConverter(from, to).orElse(null));
+        assertFalse(registry.lookupConverter(to, from).isPresent());
+        assertFalse(registry.lookupConverter(-1, to).isPresent());
+
+        registry.unregisterConverter("z", "other");
+        assertFalse(registry.lookupConverter("z", "other").isPresent());
+        assertFalse(registry.lookupConverter(from, to).isPresent());
+        assertEquals(from, registry.ordinalOf("z"));
+    }
+
+    @Test
+    void convertersFromConstructor() {
+        GradeConverter converter = (gradeValue, targetGradingSystemId) -> gradeValue;
+        GradingSystemRegistry seeded = new GradingSystemRegistry("registry", null,
+                Collections.singletonMap("a->b", converter));
+
+        assertSame(converter, seeded.lookupConverter("a", "b").orElse(null));
+        assertSame(converter, seeded.lookupConverter(seeded.ordinalOf("a"), seeded.ordinalOf("b")).orElse(null));
+    }
+
+    @Test
+    void resolveConverter() throws GradeException {
+        GradeConverter converter = (gradeValue, targetGradingSystemId) -> GradeValueBuilder.builder(gradeValue)
+                .gradingSystem(targetGradingSystemId).textValue(gradeValue.getTextValue() + targetGradingSystemId).build();
+        registry.registerConverter("a", "b", converter);
+        registry.registerConverter("b", "c", converter);
+        registry.registerConverter("c", "d", converter);
+        registry.registerConverter("b", "d", converter);
+
+        assertSame(converter, registry.resolveConverter("a", "b").orElse(null));
+        assertFalse(registry.resolveConverter("d", "a").isPresent());
+        assertFalse(registry.resolveConverter("a", "unknown").isPresent());
+
+        GradeConverter route = registry.resolveConverter("a", "d").orElseThrow(AssertionError::new);
+        assertEquals(Arrays.asList("b", "d"), ((ChainedGradeConverter) route).getGradingSystemIds());
+        assertEquals("xbd", route.convert(GradeValueBuilder.builder().numericValue(1).textValue("x")
+                .gradingSystem("a").build(), "d").getTextValue());
+
+        registry.unregisterConverter("b", "d");
+        assertEquals(Arrays.asList("b", "c", "d"), ((ChainedGradeConverter) registry.resolveConverter("a", "d")
+                .orElseThrow(AssertionError::new)).getGradingSystemIds());
+
+        registry.unregisterConverter("a", "b");
+        assertFalse(registry.resolveConverter("a", "d").isPresent());
+    }
+}
@@ -17,6 +17,7 @@
 package com.dryxtech.grade.system.converter;
 
 import com.dryxtech.grade.api.GradeConverter;
+import com.dryxtech.grade.api.GradeException;
 import com.dryxtech.grade.api.GradeValue;
 import com.dryxtech.grade.api.GradingSystem;
 import com.dryxtech.grade.control.GradeConstants;
@@ -28,6 +29,8 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -59,5 +62,23 @@ class NumericValueBasedConverterTest {
 
         assertEquals("A+", convertedValue.getTextValue());
     }
-}
 
+    @Test
+    void convertAll() throws GradeException {
+
+        List<GradeValue> originalValues = Arrays.asList(
+                new BasicGradeValue(new BigDecimal(100), "A", fromSystem.getId()),
+                new BasicGradeValue(new BigDecimal(85), "B", fromSystem.getId()),
+                new BasicGradeValue(new BigDecimal(50), "F", fromSystem.getId()));
+
+        List<GradeValue> convertedValues = assertDoesNotThrow(() -> converter.convertAll(originalValues, toSystem.getId()));
+        for (int i = 0; i < originalValues.size(); i++) {
+            assertEquals(converter.convert(originalValues.get(i), toSystem.getId()), convertedValues.get(i));
+        }
+        assertEquals("A+", convertedValues.get(0).getTextValue());
+
+        GradeValue[] convertedArray = converter.convertAll(originalValues.toArray(new GradeValue[0]), toSystem.getId());
+        assertEquals(convertedValues, Arrays.asList(convertedArray));
+        assertEquals(convertedValues, converter.convertAll(originalValues.stream(), toSystem.getId()));
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.system.converter;
+
+import com.dryxtech.grade.api.GradeException;
+import com.dryxtech.grade.api.GradeValue;
+import com.dryxtech.grade.api.GradingSystem;
+import com.dryxtech.grade.control.GradeConstants;
+import com.dryxtech.grade.model.BasicGradeValue;
+import com.dryxtech.grade.system.GradingSystemRegistry;
+import com.dryxtech.grade.util.GradeFileUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RangeTableConverterTest {
+
+    private GradingSystemRegistry registry;
+    private GradingSystem fromSystem;
+    private GradingSystem toSystem;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.fromSystem = GradeFileUtil.loadBundledGradingSystem(GradeConstants.STANDARD_ACADEMIC_SYSTEM + GradeConstants.GRADING_SYSTEM_FILE_EXTENSION);
+        this.toSystem = GradeFileUtil.loadBundledGradingSystem(GradeConstants.STANDARD_PLUS_MINUS_ACADEMIC_SYSTEM + GradeConstants.GRADING_SYSTEM_FILE_EXTENSION);
+
+        registry = new GradingSystemRegistry();
+        registry.registerSystem(fromSystem.getId(), fromSystem);
+        registry.registerSystem(toSystem.getId(), toSystem);
+    }
+
+    @Test
+    void convertNumericValue() throws GradeException {
+        NumericValueBasedConverter converter = new NumericValueBasedConverter(registry);
+        RangeTableConverter compiled = converter.compile(fromSystem.getId(), toSystem.getId());
+
+        for (int value = 0; value <= 100; value++) {
+            GradeValue originalValue = new BasicGradeValue(new BigDecimal(value),
+                    fromSystem.getTextValue(new BigDecimal(value)).orElse(""), fromSystem.getId());
+            assertEquals(converter.convert(originalValue, toSystem.getId()), compiled.convert(originalValue, toSystem.getId()));
+        }
+
+        GradeValue mismatchedText = new BasicGradeValue(new BigDecimal(100), "F", fromSystem.getId());
+        assertEquals("A+", compiled.convert(mismatchedText, toSystem.getId()).getTextValue());
+        assertThrows(GradeException.class, () -> compiled.convert(
+                new BasicGradeValue(new BigDecimal(101), "A", fromSystem.getId()), toSystem.getId()));
+        assertThrows(IllegalArgumentException.class, () -> compiled.convert(mismatchedText, fromSystem.getId()));
+    }
+
+    @Test
+    void convertTextValue() throws GradeException {
+        TextValueBasedConverter converter = new TextValueBasedConverter(registry);
+        RangeTableConverter compiled = converter.compile(fromSystem.getId(), toSystem.getId());
+
+        GradeValue inRange = new BasicGradeValue(new BigDecimal(96), "A", fromSystem.getId());
+        GradeValue outOfRange = new BasicGradeValue(new BigDecimal(50), "A", fromSystem.getId());
+        assertEquals(converter.convert(inRange, toSystem.getId()), compiled.convert(inRange, toSystem.getId()));
+        assertEquals(converter.convert(outOfRange, toSystem.getId()), compiled.convert(outOfRange, toSystem.getId()));
+
+        GradeValue lowerCase = new BasicGradeValue(new BigDecimal(91), "a", fromSystem.getId());
+        assertEquals(converter.convert(lowerCase, toSystem.getId()), compiled.convert(lowerCase, toSystem.getId()));
+        assertEquals("a", compiled.convert(lowerCase, toSystem.getId()).getTextValue());
+        assertThrows(GradeException.class, () -> compiled.convert(
+                new BasicGradeValue(new BigDecimal(50), "E", fromSystem.getId()), toSystem.getId()));
+    }
+
+    @Test
+    void convertAll() throws GradeException {
+        RangeTableConverter compiled = new NumericValueBasedConverter(registry).compile(fromSystem.getId(), toSystem.getId());
+        GradeValue[] values = {
+                new BasicGradeValue(new BigDecimal(98), "A", fromSystem.getId()),
+                new BasicGradeValue(new BigDecimal(81), "B", fromSystem.getId()),
+                new BasicGradeValue(new BigDecimal(10), "F", fromSystem.getId())};
+
+        List<GradeValue> converted = compiled.convertAll(Arrays.asList(values), toSystem.getId());
+        assertEquals(3, converted.size());
+        assertEquals("A+", converted.get(0).getTextValue());
+        assertEquals("B-", converted.get(1).getTextValue());
+        assertEquals("F", converted.get(2).getTextValue());
+        assertEquals(converted, Arrays.asList(compiled.convertAll(values, toSystem.getId())));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dryxtech.grade.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class FixedPointAccumulatorTest {
+
+    @Test
+    void average() {
+
+        FixedPointAccumulator accumulator = new FixedPointAccumulator()
+                .addAll(Arrays.asList(1, 2L, 2.5d, new BigDecimal("0.0000000015"), null));
+
+        assertEquals(5, accumulator.getCount());
+        assertEquals(new BigDecimal("5.500000002"), accumulator.getSum());
+        assertEquals(1_100_000_000L, accumulator.getScaledAverage());
+        assertEquals(Optional.of(new BigDecimal("1.100000000")), accumulator.getAverage());
+    }
+
+    @Test
+    void averageOverflow() {
+
+        FixedPointAccumulator accumulator = new FixedPointAccumulator()
+                .addWhole(9_000_000_000L)
+                .addWhole(9_000_000_000L)
+                .add(new BigDecimal("1E20"));
+
+        assertEquals(new BigDecimal("100000000018000000000.000000000"), accumulator.getSum());
+        assertEquals(FixedPointMath.NOT_REPRESENTABLE, accumulator.getScaledAverage());
+        assertEquals(Optional.of(new BigDecimal("33333333339333333333.333333333")), accumulator.getAverage());
+    }
+
+    @Test
+    void weightedAverage() {
+
+        FixedPointAccumulator accumulator = new FixedPointAccumulator()
+                .addWeighted(new BigDecimal(90), new BigDecimal(2))
+                .addWeighted(new BigDecimal(60), BigDecimal.ONE)
+                .addWeighted(new BigDecimal(70), BigDecimal.ZERO);
+
+        assertEquals(new BigDecimal("240.000000000000000000"), accumulator.getWeightedSum());
+        assertEquals(new BigDecimal("3.000000000"), accumulator.getWeightTotal());
+        assertEquals(80_000_000_000L, accumulator.getScaledWeightedAverage());
+        assertEquals(80_000_000_000L, accumulator.getScaledWeightedMean());
+        assertFalse(accumulator.getAverage().isPresent());
+
+        accumulator.addWeighted(Long.MAX_VALUE, Long.MAX_VALUE).addWeighted(Long.MAX_VALUE, Long.MAX_VALUE);
+        assertEquals(FixedPointMath.NOT_REPRESENTABLE, accumulator.getScaledWeightedAverage());
+        assertEquals(Optional.of(accumulator.getWeightedSum().divide(accumulator.getWeightTotal(),
+                FixedPointMath.SCALE, RoundingMode.HALF_EVEN)), accumulator.getWeightedAverage());
+    }
+
+    @Test
+    void combineAndReset() {
+
+        FixedPointAccumulator first = new FixedPointAccumulator().addWhole(1L).add(Long.MAX_VALUE);
+        FixedPointAccumulator second = new FixedPointAccumulator().add(Long.MAX_VALUE)
+                .addWeighted(FixedPointMath.toScaled(10L), FixedPointMath.UNIT);
+
+        first.combine(second);
+        assertEquals(3, first.getCount());
+        assertEquals(FixedPointMath.toBigDecimal(Long.MAX_VALUE).multiply(new BigDecimal(2)).add(BigDecimal.ONE),
+                first.getSum());
+        assertEquals(Optional.of(new BigDecimal("10.000000000")), first.getWeightedAverage());
+
+        first.reset();
+        assertEquals(0, first.getCount());
+        assertFalse(first.getAverage().isPresent());
+        assertFalse(first.getWeightedAverage().isPresent());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.dryxtech.grade.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FixedPointMathTest {
+
+    @Test
+    void toScaled() {
+        assertEquals(1_500_000_000L, FixedPointMath.toScaled(new BigDecimal("1.5")));
+        assertEquals(2L, FixedPointMath.toScaled(new BigDecimal("0.0000000015")));
+        assertEquals(2L, FixedPointMath.toScaled(new BigDecimal("0.0000000025")));
+        assertEquals(-100_000_000_000L, FixedPointMath.toScaled(-100L));
+        assertEquals(FixedPointMath.NOT_REPRESENTABLE, FixedPointMath.toScaled(new BigDecimal("1E10")));
+        assertEquals(FixedPointMath.NOT_REPRESENTABLE, FixedPointMath.toScaled(Long.MAX_VALUE));
+        assertEquals(new BigDecimal("1.500000000"), FixedPointMath.toBigDecimal(1_500_000_000L));
+    }
+
+    @Test
+    void add() {
+        assertEquals(3L, FixedPointMath.add(1L, 2L));
+        assertEquals(FixedPointMath.NOT_REPRESENTABLE, FixedPointMath.add(Long.MAX_VALUE, 1L));
+        assertEquals(FixedPointMath.NOT_REPRESENTABLE, FixedPointMath.add(Long.MIN_VALUE + 1, -2L));
+    }
+
+    @Test
+    void divide() {
+        assertEquals(2L, FixedPointMath.divide(5L, 2L));
+        assertEquals(4L, FixedPointMath.divide(7L, 2L));
+        assertEquals(-2L, FixedPointMath.divide(-5L, 2L));
+        assertEquals(3L, FixedPointMath.divide(8L, 3L));
+        assertEquals(2L, FixedPointMath.divide(7L, 3L));
+        assertEquals(-3L, FixedPointMath.divide(8L, -3L));
+        assertEquals(-1L, FixedPointMath.divide(Long.MAX_VALUE, Long.MIN_VALUE + 1));
+
+        long high = FixedPointMath.multiplyHigh(Long.MAX_VALUE - 1, 6L);
+        long low = (Long.MAX_VALUE - 1) * 6L;
+        assertEquals(Long.MAX_VALUE / 2, FixedPointMath.divide(high, low, 12L));
+        assertEquals(-Long.MAX_VALUE / 2, FixedPointMath.divide(high, low, -12L));
+        assertEquals(Long.MAX_VALUE / 2 + 1, FixedPointMath.divide(high, low + 6L, 12L));
+        assertEquals(FixedPointMath.NOT_REPRESENTABLE, FixedPointMath.divide(high, low, 3L));
+        assertEquals(FixedPointMath.NOT_REPRESENTABLE, FixedPointMath.divide(66L, -5L, 67L));
+        assertEquals(FixedPointMath.NOT_REPRESENTABLE, FixedPointMath.divide(-211L, 62L, 211L));
+    }
+
+    @Test
+    void multiplyHigh() {
+        assertEquals(0L, FixedPointMath.multiplyHigh(3L, 4L));
+        assertEquals(-1L, FixedPointMath.multiplyHigh(-3L, 4L));
+        assertEquals(Long.MAX_VALUE >> 1, FixedPointMath.multiplyHigh(Long.MAX_VALUE, Long.MAX_VALUE));
+        assertEquals(new BigDecimal("85070591730234615847396907784232501249E-18"), FixedPointMath.toBigDecimal(
+                FixedPointMath.multiplyHigh(Long.MAX_VALUE, Long.MAX_VALUE), Long.MAX_VALUE * Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class GradeAccumulatorTest {
+
+    @Test
+    void average() {
+
+        List<Number> values = Arrays.asList(1, 2L, 3.5d, new BigDecimal("4.25"), (short) 5, BigInteger.TEN, 1.5f, null);
+        GradeAccumulator accumulator = new GradeAccumulator().addAll(values);
+
+        assertEquals(8, accumulator.getCount());
+        assertEquals(new BigDecimal("27.25"), accumulator.getSum());
+        assertEquals(GradeMathUtil.calculateAverage(values), accumulator.getAverage());
+        assertEquals(Optional.of(new BigDecimal("3.40625")), accumulator.getAverage());
+    }
+
+    @Test
+    void longOverflow() {
+
+        GradeAccumulator accumulator = new GradeAccumulator()
+                .add(Long.MAX_VALUE)
+                .add(Long.MAX_VALUE)
+                .add(Long.MIN_VALUE);
+
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE).subtract(BigDecimal.ONE), accumulator.getSum());
+    }
+
+    @Test
+    void weightedAverage() {
+
+        GradeAccumulator accumulator = new GradeAccumulator()
+                .addWeighted(new BigDecimal(90), new BigDecimal(2))
+                .addWeighted(new BigDecimal(60), BigDecimal.ONE);
+
+        assertEquals(new BigDecimal(240), accumulator.getWeightedSum());
+        assertEquals(new BigDecimal(3), accumulator.getWeightTotal());
+        assertEquals(Optional.of(new BigDecimal(80)), accumulator.getWeightedAverage());
+        assertFalse(accumulator.getAverage().isPresent());
+    }
+
+    @Test
+    void combineAndReset() {
+
+        GradeAccumulator first = new GradeAccumulator().add(1L).add(new BigDecimal("2.5"));
+        GradeAccumulator second = new GradeAccumulator().add(3L).addWeighted(BigDecimal.TEN, BigDecimal.ONE);
+
+        first.combine(second);
+        assertEquals(3, first.getCount());
+        assertEquals(new BigDecimal("6.5"), first.getSum());
+        assertEquals(Optional.of(BigDecimal.TEN), first.getWeightedAverage());
+
+        first.reset();
+        assertEquals(0, first.getCount());
+        assertFalse(first.getAverage().isPresent());
+        assertFalse(first.getWeightedAverage().isPresent());
+    }
+}
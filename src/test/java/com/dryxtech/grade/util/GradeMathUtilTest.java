@@ -19,6 +19,7 @@ package com.dryxtech.grade.util;
 import com.dryxtech.grade.GradeTesting;
 import com.dryxtech.grade.api.Grade;
 import com.dryxtech.grade.model.GradeRank;
+import com.dryxtech.grade.model.RankMode;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -175,4 +176,18 @@ class GradeMathUtilTest {
             Assertions.assertEquals(grades.get(n).getNumericValue(), gradeRanks.get(n).getGrade().getNumericValue());
         });
     }
+
+    @Test
+    void rankGradesCompetition() {
+
+        List<Grade> grades = GradeTesting.mockGrades(70, 90, 80, 90);
+        List<GradeRank> gradeRanks = GradeMathUtil.rankGradesHiToLow(grades, RankMode.COMPETITION);
+
+        assertEquals(4, gradeRanks.size());
+        assertEquals(1, gradeRanks.get(0).getRank());
+        assertEquals(1, gradeRanks.get(1).getRank());
+        assertEquals(3, gradeRanks.get(2).getRank());
+        assertEquals(4, gradeRanks.get(3).getRank());
+        assertEquals(new BigDecimal(70), gradeRanks.get(3).getGrade().getNumericValue());
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import com.dryxtech.grade.GradeTesting;
+import com.dryxtech.grade.api.Grade;
+import com.dryxtech.grade.model.GradeRank;
+import com.dryxtech.grade.model.RankMode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.reverseOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradeRankerTest {
+
+    private static final ZonedDateTime TIMESTAMP = ZonedDateTime.of(2021, 6, 1, 9, 0, 0, 0, ZoneId.of("UTC"));
+
+    @Test
+    void rankModes() {
+
+        List<Grade> grades = Arrays.asList(grade("80", 0), grade("90", 0), grade("70", 0), grade("80.0", 1));
+
+        assertEquals(Arrays.asList(1L, 2L, 2L, 3L), ranks(GradeRanker.rank(grades, true, RankMode.DENSE)));
+        assertEquals(Arrays.asList(1L, 2L, 2L, 4L), ranks(GradeRanker.rank(grades, true, RankMode.COMPETITION)));
+        assertEquals(Arrays.asList(25L, 50L, 50L, 100L), ranks(GradeRanker.rank(grades, true, RankMode.PERCENTILE)));
+        assertEquals(Arrays.asList(1L, 2L, 2L, 4L), ranks(GradeRanker.rank(grades, false, RankMode.COMPETITION)));
+
+        List<GradeRank> ranked = GradeRanker.rank(grades, true, RankMode.DENSE);
+        assertSame(grades.get(1), ranked.get(0).getGrade());
+        assertSame(grades.get(0), ranked.get(1).getGrade());
+        assertSame(grades.get(3), ranked.get(2).getGrade());
+        assertSame(grades.get(2), ranked.get(3).getGrade());
+
+        assertTrue(GradeRanker.rank(Collections.emptyList(), true, RankMode.DENSE).isEmpty());
+        assertTrue(GradeRanker.rank(null, false, RankMode.PERCENTILE).isEmpty());
+    }
+
+    @Test
+    void sameAsComparator() {
+
+        Random random = new Random(2021);
+        List<Grade> grades = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            grades.add(grade(BigDecimal.valueOf(random.nextInt(500), random.nextInt(3)).toPlainString(), random.nextInt(20)));
+        }
+
+        assertSameAsComparator(grades);
+
+        // values of more than 9 decimal places and timestamps of other zones are ranked by comparator
+        grades.add(grade("12.0000000001", 3));
+        grades.add(GradeTesting.grade("test", "test", 12, TIMESTAMP.withZoneSameInstant(ZoneId.of("America/Chicago"))));
+        assertSameAsComparator(grades);
+    }
+
+    @Test
+    void topAndWindow() {
+
+        Random random = new Random(7);
+        List<Grade> grades = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            grades.add(grade(Integer.toString(random.nextInt(60)), random.nextInt(5)));
+        }
+
+        for (RankMode mode : RankMode.values()) {
+            List<GradeRank> ranked = GradeRanker.rank(grades, true, mode);
+            assertSameRanks(ranked.subList(0, 10), GradeRanker.top(grades, 10, true, mode));
+            assertSameRanks(ranked.subList(100, 125), GradeRanker.rankWindow(grades, 100, 25, true, mode));
+            assertSameRanks(ranked.subList(490, 500), GradeRanker.rankWindow(grades, 490, 25, true, mode));
+        }
+
+        assertTrue(GradeRanker.rankWindow(grades, 500, 10, true, RankMode.DENSE).isEmpty());
+        assertTrue(GradeRanker.top(grades, 0, false, RankMode.DENSE).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> GradeRanker.rankWindow(grades, -1, 10, true, RankMode.DENSE));
+    }
+
+    @Test
+    void rankOf() {
+
+        List<Grade> grades = Arrays.asList(grade("80", 0), grade("90", 0), grade("70", 0), grade("80.0", 1));
+
+        assertEquals(2, GradeRanker.rankOf(grades, grades.get(3), true, RankMode.DENSE));
+        assertEquals(4, GradeRanker.rankOf(grades, grades.get(2), true, RankMode.COMPETITION));
+        assertEquals(50, GradeRanker.rankOf(grades, grades.get(0), true, RankMode.PERCENTILE));
+        assertEquals(2, GradeRanker.rankOf(grades, grades.get(0), false, RankMode.COMPETITION));
+        assertEquals(3, GradeRanker.rankOf(grades, grade("75", 2), true, RankMode.DENSE));
+        assertEquals(80, GradeRanker.rankOf(grades, grade("75", 2), true, RankMode.PERCENTILE));
+    }
+
+    private static void assertSameRanks(final List<GradeRank> expected, final List<GradeRank> actual) {
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i).getGrade(), actual.get(i).getGrade());
+            assertEquals(expected.get(i).getRank(), actual.get(i).getRank());
+        }
+    }
+
+    private static void assertSameAsComparator(final List<Grade> grades) {
+
+        List<GradeRank> expected = GradeMathUtil.rankGrades(grades,
+                comparing(Grade::getNumericValue, reverseOrder()).thenComparing(Grade::getTimestamp));
+        assertSameRanks(expected, GradeRanker.rank(grades, true, RankMode.DENSE));
+    }
+
+    private static Grade grade(final String numericValue, final int seconds) {
+        return GradeTesting.grade("test", "test", new BigDecimal(numericValue), TIMESTAMP.plusSeconds(seconds));
+    }
+
+    private static List<Long> ranks(final List<GradeRank> gradeRanks) {
+        return gradeRanks.stream().map(GradeRank::getRank).collect(Collectors.toList());
+    }
+}
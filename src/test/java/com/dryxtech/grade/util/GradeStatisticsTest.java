@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class GradeStatisticsTest {
+
+    @Test
+    void statistics() {
+
+        List<Number> values = Arrays.asList(2, 4L, 4.0d, new BigDecimal("4"), 5, 5, 7, 9, null);
+        GradeStatistics statistics = new GradeStatistics().addAll(values);
+
+        assertEquals(8, statistics.getCount());
+        assertEquals(5.0, statistics.getMean().getAsDouble(), 1e-12);
+        assertEquals(4.0, statistics.getVariance().getAsDouble(), 1e-12);
+        assertEquals(2.0, statistics.getStandardDeviation().getAsDouble(), 1e-12);
+        assertEquals(32.0 / 7, statistics.getSampleVariance().getAsDouble(), 1e-12);
+        assertEquals(Optional.of(BigDecimal.valueOf(2)), statistics.getMin());
+        assertEquals(Optional.of(BigDecimal.valueOf(9)), statistics.getMax());
+        assertEquals(4.0, statistics.getMedian().getAsDouble());
+        assertEquals(9.0, statistics.getQuantile(0.99).getAsDouble());
+    }
+
+    @Test
+    void combineAndReset() {
+
+        GradeStatistics first = new GradeStatistics().add(2).add(4).add(4).add(4);
+        GradeStatistics second = new GradeStatistics().add(5).add(5).add(7).add(new BigDecimal("9.0"));
+
+        first.combine(second).combine(new GradeStatistics());
+        assertEquals(8, first.getCount());
+        assertEquals(5.0, first.getMean().getAsDouble(), 1e-12);
+        assertEquals(4.0, first.getVariance().getAsDouble(), 1e-12);
+        assertEquals(Optional.of(new BigDecimal("9.0")), first.getMax());
+
+        first.combine(first);
+        assertEquals(16, first.getCount());
+        assertEquals(5.0, first.getMean().getAsDouble(), 1e-12);
+        assertEquals(4.0, first.getVariance().getAsDouble(), 1e-12);
+        assertEquals(9.0, first.getQuantile(1.0).getAsDouble());
+
+        first.reset();
+        assertEquals(0, first.getCount());
+        assertFalse(first.getMean().isPresent());
+        assertFalse(first.getMin().isPresent());
+        assertFalse(first.getMedian().isPresent());
+    }
+}
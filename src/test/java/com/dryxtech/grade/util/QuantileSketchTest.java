@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuantileSketchTest {
+
+    @Test
+    void exactWhileSmall() {
+
+        QuantileSketch sketch = new QuantileSketch();
+        assertFalse(sketch.getQuantile(0.5).isPresent());
+
+        for (int value = 1; value <= 100; value++) {
+            sketch.add(value);
+        }
+
+        assertEquals(100, sketch.getCount());
+        assertEquals(1, sketch.getQuantile(0).getAsDouble());
+        assertEquals(50, sketch.getQuantile(0.5).getAsDouble());
+        assertEquals(90, sketch.getQuantile(0.9).getAsDouble());
+        assertEquals(100, sketch.getQuantile(1).getAsDouble());
+        assertEquals(0.25, sketch.getRank(25).getAsDouble());
+        assertThrows(IllegalArgumentException.class, () -> sketch.getQuantile(1.5));
+    }
+
+    @Test
+    void boundedAndMergeable() {
+
+        Random random = new Random(42);
+        int count = 200_000;
+        double[] values = new double[count];
+        QuantileSketch sketch = new QuantileSketch();
+        QuantileSketch other = new QuantileSketch();
+
+        for (int i = 0; i < count; i++) {
+            values[i] = random.nextDouble() * 100;
+            (i % 2 == 0 ? sketch : other).add(values[i]);
+        }
+        sketch.merge(other);
+        Arrays.sort(values);
+
+        assertEquals(count, sketch.getCount());
+        assertTrue(sketch.getRetainedCount() < 3 * QuantileSketch.DEFAULT_K);
+        for (double quantile : new double[]{0.1, 0.5, 0.9, 0.99}) {
+            double estimate = sketch.getQuantile(quantile).getAsDouble();
+            double rank = (double) Math.abs(Arrays.binarySearch(values, estimate)) / count;
+            assertEquals(quantile, rank, 0.02);
+        }
+        assertEquals(values[0], sketch.getMin().getAsDouble());
+        assertEquals(values[count - 1], sketch.getMax().getAsDouble());
+    }
+
+    @Test
+    void mergeIntoItself() {
+
+        QuantileSketch sketch = new QuantileSketch(QuantileSketch.MIN_K);
+        for (int i = 1; i <= 100; i++) {
+            sketch.add(i);
+        }
+        sketch.merge(sketch);
+
+        assertEquals(200, sketch.getCount());
+        assertEquals(1.0, sketch.getMin().getAsDouble());
+        assertEquals(100.0, sketch.getMax().getAsDouble());
+        double median = sketch.getQuantile(0.5).getAsDouble();
+        assertTrue(median >= 1.0 && median <= 100.0);
+    }
+
+    @Test
+    void deterministic() {
+
+        QuantileSketch first = new QuantileSketch(QuantileSketch.MIN_K);
+        QuantileSketch second = new QuantileSketch(QuantileSketch.MIN_K);
+        for (int i = 0; i < 10_000; i++) {
+            first.add(i % 997);
+            second.add(i % 997);
+        }
+
+        for (double quantile : new double[]{0.1, 0.5, 0.9}) {
+            assertEquals(first.getQuantile(quantile).getAsDouble(), second.getQuantile(quantile).getAsDouble());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 DRYXTECH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.dryxtech.grade.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RollingWindowTest {
+
+    private static final Instant START = Instant.parse("2021-03-01T00:00:00Z");
+
+    @Test
+    void sliding() {
+
+        RollingWindow window = RollingWindow.sliding(Duration.ofDays(3), 3);
+        assertTrue(window.add(day(0), new BigDecimal(90)));
+        assertTrue(window.add(day(1), new BigDecimal(80)));
+        assertTrue(window.add(day(2), new BigDecimal("70.5")));
+        assertEquals(3, window.getCount());
+        assertEquals(new BigDecimal("240.5"), window.getSum());
+
+        assertTrue(window.add(day(3), new BigDecimal(60)));
+        assertEquals(3, window.getCount());
+        assertEquals(new BigDecimal("210.5"), window.getSum());
+        assertFalse(window.add(day(0), new BigDecimal(100)));
+
+        window.advanceTo(day(5));
+        assertEquals(1, window.getCount());
+        assertEquals(Optional.of(new BigDecimal("60.0")), window.getAverage());
+
+        window.advanceTo(day(10));
+        assertEquals(0, window.getCount());
+        assertEquals(BigDecimal.ZERO, window.getSum());
+        assertFalse(window.getAverage().isPresent());
+    }
+
+    @Test
+    void advanceByClock() {
+
+        RollingWindow window = RollingWindow.sliding(Duration.ofDays(3), 3);
+        Instant now = day(2).plus(Duration.ofHours(12));
+        assertTrue(window.add(day(2), BigDecimal.TEN, now));
+        assertTrue(window.add(day(1), new BigDecimal(20), now));
+        assertFalse(window.add(day(-1), new BigDecimal(40), now));
+
+        assertTrue(window.add(day(3), new BigDecimal(30), now));
+        assertFalse(window.add(day(30), new BigDecimal(100), now));
+        assertEquals(2, window.getCount());
+        assertEquals(new BigDecimal(30), window.getSum());
+
+        assertTrue(window.remove(day(3), new BigDecimal(30)));
+        assertTrue(window.add(day(3), new BigDecimal(30), now));
+        window.advanceTo(day(3));
+        assertEquals(3, window.getCount());
+        assertEquals(new BigDecimal(60), window.getSum());
+
+        window.advanceTo(day(4));
+        assertEquals(2, window.getCount());
+        assertEquals(Optional.of(new BigDecimal(20)), window.getAverage());
+    }
+
+    @Test
+    void tumbling() {
+
+        RollingWindow window = RollingWindow.tumbling(Duration.ofDays(1));
+        window.add(START, BigDecimal.ONE);
+        window.add(START.plus(Duration.ofHours(23)), new BigDecimal(2));
+        assertEquals(2, window.getCount());
+
+        window.add(day(1), new BigDecimal(5));
+        assertEquals(1, window.getCount());
+        assertEquals(new BigDecimal(5), window.getSum());
+        assertEquals(Duration.ofDays(1), window.getWindow());
+    }
+
+    @Test
+    void remove() {
+
+        RollingWindow window = RollingWindow.sliding(Duration.ofHours(2), 2);
+        window.add(START, BigDecimal.TEN);
+        window.add(START.plusSeconds(3600), new BigDecimal(20));
+
+        assertTrue(window.remove(START, BigDecimal.TEN));
+        assertFalse(window.remove(START, BigDecimal.TEN));
+        assertFalse(window.remove(START.plusSeconds(7200), BigDecimal.TEN));
+        assertEquals(Optional.of(new BigDecimal(20)), window.getAverage());
+    }
+
+    @Test
+    void invalidWindow() {
+        assertThrows(IllegalArgumentException.class, () -> RollingWindow.sliding(Duration.ofMillis(10), 3));
+        assertThrows(IllegalArgumentException.class, () -> RollingWindow.sliding(Duration.ofDays(1), 0));
+        assertThrows(IllegalArgumentException.class, () -> RollingWindow.tumbling(Duration.ZERO));
+    }
+
+    private static Instant day(final int day) {
+        return START.plus(Duration.ofDays(day));
+    }
+}